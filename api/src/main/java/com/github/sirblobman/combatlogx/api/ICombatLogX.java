@@ -12,10 +12,12 @@ import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
 import com.github.sirblobman.combatlogx.api.configuration.PunishConfiguration;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionManager;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
 import com.github.sirblobman.combatlogx.api.manager.ICrystalManager;
 import com.github.sirblobman.combatlogx.api.manager.IDeathManager;
 import com.github.sirblobman.combatlogx.api.manager.IForgiveManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
 import com.github.sirblobman.combatlogx.api.manager.IPunishManager;
 import com.github.sirblobman.combatlogx.api.manager.ITimerManager;
 
@@ -75,6 +77,16 @@ public interface ICombatLogX extends IResourceHolder, IMultiVersionPlugin {
      */
     @NotNull IForgiveManager getForgiveManager();
 
+    /**
+     * @return The shared cooldown manager for this plugin.
+     */
+    @NotNull ICooldownManager getCooldownManager();
+
+    /**
+     * @return The manager that keeps typed player data in memory.
+     */
+    @NotNull IPlayerStateManager getPlayerStateManager();
+
     /**
      * @return {@code true} if the debug mode feature is disabled, otherwise {@code false}.
      */
@@ -18,6 +18,7 @@ import org.bukkit.permissions.PermissionDefault;
 
 import com.github.sirblobman.api.configuration.IConfigurable;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.object.StorageType;
 import com.github.sirblobman.combatlogx.api.object.TagReason;
 import com.github.sirblobman.combatlogx.api.object.TimerType;
 
@@ -54,6 +55,12 @@ public final class MainConfiguration implements IConfigurable {
     private int forgiveRequestExpire;
 
     private double minimumTps;
+    private boolean placeholderTickCache;
+    private boolean adaptiveTimerUpdates;
+    private long reTagCoalesceMillis;
+    private long playerDataSaveInterval;
+    private StorageType storageType;
+    private boolean migrateYamlStorage;
 
     private Set<TagReason> enabledTagReasons;
 
@@ -91,6 +98,12 @@ public final class MainConfiguration implements IConfigurable {
         this.forgiveRequestExpire = 10;
 
         this.minimumTps = 15.0D;
+        this.placeholderTickCache = true;
+        this.adaptiveTimerUpdates = false;
+        this.reTagCoalesceMillis = 0L;
+        this.playerDataSaveInterval = 100L;
+        this.storageType = StorageType.YAML;
+        this.migrateYamlStorage = true;
         this.enabledTagReasons = EnumSet.allOf(TagReason.class);
     }
 
@@ -133,6 +146,14 @@ public final class MainConfiguration implements IConfigurable {
         setForgiveRequestCooldown(config.getInt("forgive-request-cooldown", 30));
         setForgiveRequestExpire(config.getInt("forgive-request-expire", 10));
         setMinimumTps(config.getDouble("minimum-tps", 15.0D));
+        setPlaceholderTickCache(config.getBoolean("placeholder-tick-cache", true));
+        setAdaptiveTimerUpdates(config.getBoolean("adaptive-timer-updates", false));
+        setReTagCoalesceMillis(config.getLong("re-tag-coalesce-time", 0L));
+        setPlayerDataSaveInterval(config.getLong("player-data-save-interval", 100L));
+
+        String storageTypeName = config.getString("player-data-storage");
+        setStorageType(parseEnum(StorageType.class, storageTypeName, StorageType.YAML));
+        setMigrateYamlStorage(config.getBoolean("migrate-yaml-player-data", true));
 
         List<String> enabledTagReasonNameList = config.getStringList("enabled-tag-reasons");
         Set<TagReason> enabledTagReasons = parseEnums(enabledTagReasonNameList, TagReason.class);
@@ -341,6 +362,64 @@ public final class MainConfiguration implements IConfigurable {
         this.minimumTps = minimumTps;
     }
 
+    public boolean isPlaceholderTickCache() {
+        return this.placeholderTickCache;
+    }
+
+    public void setPlaceholderTickCache(boolean placeholderTickCache) {
+        this.placeholderTickCache = placeholderTickCache;
+    }
+
+    public boolean isAdaptiveTimerUpdates() {
+        return this.adaptiveTimerUpdates;
+    }
+
+    public void setAdaptiveTimerUpdates(boolean adaptiveTimerUpdates) {
+        this.adaptiveTimerUpdates = adaptiveTimerUpdates;
+    }
+
+    public long getReTagCoalesceMillis() {
+        return this.reTagCoalesceMillis;
+    }
+
+    public void setReTagCoalesceMillis(long reTagCoalesceMillis) {
+        this.reTagCoalesceMillis = Math.max(0L, reTagCoalesceMillis);
+    }
+
+    /**
+     * @return The amount of ticks that changed player data is kept in memory before it is written to disk.
+     * A value of zero means that player data is written right away.
+     */
+    public long getPlayerDataSaveInterval() {
+        return this.playerDataSaveInterval;
+    }
+
+    public void setPlayerDataSaveInterval(long playerDataSaveInterval) {
+        this.playerDataSaveInterval = Math.max(0L, playerDataSaveInterval);
+    }
+
+    /**
+     * @return The storage type for the typed state of players. Changes require a server restart.
+     */
+    public @NotNull StorageType getStorageType() {
+        return this.storageType;
+    }
+
+    public void setStorageType(@NotNull StorageType storageType) {
+        this.storageType = storageType;
+    }
+
+    /**
+     * @return {@code true} if existing YAML player data should be copied into a new database storage.
+     */
+    public boolean isMigrateYamlStorage() {
+        return this.migrateYamlStorage;
+    }
+
+    public void setMigrateYamlStorage(boolean migrateYamlStorage) {
+        this.migrateYamlStorage = migrateYamlStorage;
+    }
+
     public boolean isDisabled(@NotNull World world) {
         Set<String> worldNameSet = getWorlds();
         boolean inverted = isWorldListInverted();
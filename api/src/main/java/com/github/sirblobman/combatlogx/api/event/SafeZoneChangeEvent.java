@@ -0,0 +1,44 @@
+package com.github.sirblobman.combatlogx.api.event;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import com.github.sirblobman.combatlogx.api.expansion.region.RegionExpansion;
+
+/**
+ * A custom event that will be called when a region expansion reports that its safe zones have changed.
+ * This event may be called asynchronously depending on the thread of the region plugin.
+ */
+public final class SafeZoneChangeEvent extends Event {
+    private static final HandlerList HANDLER_LIST;
+
+    static {
+        HANDLER_LIST = new HandlerList();
+    }
+
+    private final RegionExpansion expansion;
+
+    public SafeZoneChangeEvent(@NotNull RegionExpansion expansion) {
+        super(!Bukkit.isPrimaryThread());
+        this.expansion = expansion;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLER_LIST;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return getHandlerList();
+    }
+
+    /**
+     * @return The region expansion whose safe zones have changed.
+     */
+    public @NotNull RegionExpansion getExpansion() {
+        return this.expansion;
+    }
+}
@@ -14,6 +14,7 @@ import com.github.sirblobman.api.plugin.ConfigurablePlugin;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionWithDependencies;
 import com.github.sirblobman.combatlogx.api.expansion.region.configuration.RegionExpansionConfiguration;
+import com.github.sirblobman.combatlogx.api.expansion.region.listener.RegionCacheListener;
 import com.github.sirblobman.combatlogx.api.expansion.region.listener.RegionMoveListener;
 import com.github.sirblobman.combatlogx.api.expansion.region.listener.RegionTeleportListener;
 import com.github.sirblobman.combatlogx.api.expansion.region.listener.RegionVulnerableListener;
@@ -51,6 +52,7 @@ public abstract class RegionExpansion extends ExpansionWithDependencies {
         new RegionMoveListener(this).register();
         new RegionTeleportListener(this).register();
         new RegionVulnerableListener(this).register();
+        new RegionCacheListener(this).register();
     }
 
     @Override
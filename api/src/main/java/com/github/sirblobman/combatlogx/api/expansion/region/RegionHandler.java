@@ -1,19 +1,20 @@
 package com.github.sirblobman.combatlogx.api.expansion.region;
 
 import java.util.Locale;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
+import org.bukkit.plugin.PluginManager;
 import org.bukkit.util.Vector;
 
 import com.github.sirblobman.api.folia.FoliaHelper;
@@ -22,20 +23,29 @@ import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.api.utility.VersionUtility;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
+import com.github.sirblobman.combatlogx.api.event.SafeZoneChangeEvent;
 import com.github.sirblobman.combatlogx.api.expansion.region.configuration.RegionExpansionConfiguration;
 import com.github.sirblobman.combatlogx.api.expansion.region.task.KnockbackPlayerTask;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
 import com.github.sirblobman.combatlogx.api.object.NoEntryMode;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
 import com.github.sirblobman.combatlogx.api.object.TagType;
 
 public abstract class RegionHandler<RE extends RegionExpansion> {
     private final RE expansion;
-    private final Map<UUID, Long> cooldownMap;
+    private final SafeZoneCache safeZoneCache;
+    private final CooldownKey entryDeniedCooldownKey;
 
     public RegionHandler(@NotNull RE expansion) {
         this.expansion = expansion;
-        this.cooldownMap = new ConcurrentHashMap<>();
+        this.safeZoneCache = new SafeZoneCache();
+
+        ICombatLogX plugin = expansion.getPlugin();
+        ICooldownManager cooldownManager = plugin.getCooldownManager();
+        String expansionName = expansion.getName();
+        this.entryDeniedCooldownKey = cooldownManager.getKey("region:" + expansionName + ":entry-denied");
     }
 
     protected final @NotNull RE getExpansion() {
@@ -76,23 +86,19 @@ public abstract class RegionHandler<RE extends RegionExpansion> {
         }
 
         UUID playerId = player.getUniqueId();
-        if (this.cooldownMap.containsKey(playerId)) {
-            long expireMillis = this.cooldownMap.getOrDefault(playerId, 0L);
-            long systemMillis = System.currentTimeMillis();
-            if (systemMillis < expireMillis) {
-                return;
-            }
+        ICombatLogX plugin = this.expansion.getPlugin();
+        ICooldownManager cooldownManager = plugin.getCooldownManager();
+        CooldownKey cooldownKey = this.entryDeniedCooldownKey;
+        if (cooldownManager.hasCooldown(playerId, cooldownKey)) {
+            return;
         }
 
-        ICombatLogX plugin = this.expansion.getPlugin();
         LanguageManager languageManager = plugin.getLanguageManager();
         languageManager.sendMessageWithPrefix(player, messagePath);
 
         long cooldownSeconds = getEntryDeniedMessageCooldown();
         long cooldownMillis = TimeUnit.SECONDS.toMillis(cooldownSeconds);
-        long systemMillis = System.currentTimeMillis();
-        long expireMillis = (systemMillis + cooldownMillis);
-        this.cooldownMap.put(playerId, expireMillis);
+        cooldownManager.addCooldown(playerId, cooldownKey, cooldownMillis);
     }
 
     public final void preventEntry(@NotNull Cancellable e, @NotNull Player player,
@@ -199,6 +205,63 @@ public abstract class RegionHandler<RE extends RegionExpansion> {
         return player.isGliding();
     }
 
+    /**
+     * Check if a location is a safe zone, using a recent result when one is available.
+     * The result is cached by block position, so this method is preferred for frequent checks.
+     *
+     * @see #isSafeZone(Player, Location, TagInformation)
+     */
+    public final boolean isSafeZoneCached(@NotNull Player player, @NotNull Location location,
+                                          @NotNull TagInformation tag) {
+        RegionExpansionConfiguration configuration = getConfiguration();
+        long cacheMillis = configuration.getSafeZoneCacheTime();
+        World world = location.getWorld();
+        if (cacheMillis <= 0L || world == null) {
+            return isSafeZone(player, location, tag);
+        }
+
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        TagType tagType = tag.getCurrentTagType();
+
+        SafeZoneCache cache = getSafeZoneCache();
+        Boolean cached = cache.get(player, world, x, y, z, tagType);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean safe = isSafeZone(player, location, tag);
+        cache.put(player, world, x, y, z, tagType, safe, cacheMillis);
+        return safe;
+    }
+
+    public final @NotNull SafeZoneCache getSafeZoneCache() {
+        return this.safeZoneCache;
+    }
+
+    /**
+     * Region handlers should call this method when the regions of their plugin have changed.
+     * Currently only the GriefPrevention handler does this when a claim changes.
+     * Other region plugins rely on the 'safe-zone-cache-time' setting for changes to apply.
+     * A {@link SafeZoneChangeEvent} is called afterward so other expansions can refresh their own state.
+     */
+    public final void invalidateSafeZoneCache() {
+        SafeZoneCache cache = getSafeZoneCache();
+        cache.invalidateAll();
+
+        RE expansion = getExpansion();
+        SafeZoneChangeEvent event = new SafeZoneChangeEvent(expansion);
+        PluginManager pluginManager = Bukkit.getPluginManager();
+        pluginManager.callEvent(event);
+    }
+
+    public final void invalidateSafeZoneCache(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        SafeZoneCache cache = getSafeZoneCache();
+        cache.invalidate(playerId);
+    }
+
     public abstract String getEntryDeniedMessagePath(@NotNull TagType tagType);
 
     public abstract boolean isSafeZone(@NotNull Player player, @NotNull Location location, @NotNull TagInformation tag);
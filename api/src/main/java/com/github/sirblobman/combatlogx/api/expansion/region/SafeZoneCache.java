@@ -0,0 +1,72 @@
+package com.github.sirblobman.combatlogx.api.expansion.region;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import com.github.sirblobman.combatlogx.api.object.TagType;
+
+/**
+ * A short-lived cache for safe zone results of a {@link RegionHandler}.
+ * Results are stored per player because many region plugins check membership or permissions of the player.
+ * Each player has a fixed amount of slots, so a full cache replaces older positions instead of growing.
+ */
+public final class SafeZoneCache {
+    private final Map<UUID, SafeZoneCacheEntries> entriesMap;
+
+    public SafeZoneCache() {
+        this.entriesMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return The cached result, or {@code null} if there is no valid result for the position.
+     */
+    public @Nullable Boolean get(@NotNull Player player, @NotNull World world, int x, int y, int z,
+                                 @NotNull TagType tagType) {
+        UUID playerId = player.getUniqueId();
+        SafeZoneCacheEntries entries = this.entriesMap.get(playerId);
+        if (entries == null) {
+            return null;
+        }
+
+        long systemMillis = System.currentTimeMillis();
+        return entries.get(world, x, y, z, tagType, systemMillis);
+    }
+
+    /**
+     * @param cacheMillis The amount of milliseconds the result is valid for.
+     */
+    public void put(@NotNull Player player, @NotNull World world, int x, int y, int z, @NotNull TagType tagType,
+                    boolean safe, long cacheMillis) {
+        if (cacheMillis <= 0L) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        SafeZoneCacheEntries entries = this.entriesMap.computeIfAbsent(playerId, key -> new SafeZoneCacheEntries());
+
+        long systemMillis = System.currentTimeMillis();
+        long expireMillis = (systemMillis + cacheMillis);
+        entries.put(world, x, y, z, tagType, safe, expireMillis);
+    }
+
+    /**
+     * Remove all cached results for a player.
+     */
+    public void invalidate(@NotNull UUID playerId) {
+        this.entriesMap.remove(playerId);
+    }
+
+    /**
+     * Remove all cached results, for example when the regions of a protection plugin have changed.
+     */
+    public void invalidateAll() {
+        this.entriesMap.clear();
+    }
+}
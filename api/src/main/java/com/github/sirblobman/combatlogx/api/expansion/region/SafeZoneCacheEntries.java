@@ -0,0 +1,155 @@
+package com.github.sirblobman.combatlogx.api.expansion.region;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.World;
+
+import com.github.sirblobman.combatlogx.api.object.TagType;
+
+/**
+ * The cached safe zone results for a single player.
+ * The world is shared by all slots, because a player only needs positions near their own location.
+ * Results are stored in an open addressing table with linear probing. The table grows when it is half full,
+ * so a force field that checks every position around the player does not evict its own results.
+ * Expired results are dropped when the table grows, and a full table at the maximum size is cleared.
+ */
+final class SafeZoneCacheEntries {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAXIMUM_CAPACITY = 32768;
+
+    private long[] positions;
+    private byte[] tagTypes;
+    private boolean[] results;
+    private long[] expireTimes;
+    private int size;
+    private UUID worldId;
+
+    SafeZoneCacheEntries() {
+        allocate(INITIAL_CAPACITY);
+        this.worldId = null;
+    }
+
+    synchronized @Nullable Boolean get(@NotNull World world, int x, int y, int z, @NotNull TagType tagType,
+                                       long systemMillis) {
+        UUID worldId = world.getUID();
+        if (!worldId.equals(this.worldId)) {
+            return null;
+        }
+
+        long packed = pack(x, y, z);
+        int tagTypeId = (tagType.ordinal() + 1);
+        int slot = findSlot(packed, tagTypeId);
+        if (this.tagTypes[slot] == 0) {
+            return null;
+        }
+
+        if (systemMillis >= this.expireTimes[slot]) {
+            return null;
+        }
+
+        return this.results[slot];
+    }
+
+    synchronized void put(@NotNull World world, int x, int y, int z, @NotNull TagType tagType, boolean safe,
+                          long expireMillis) {
+        UUID worldId = world.getUID();
+        if (!worldId.equals(this.worldId)) {
+            allocate(INITIAL_CAPACITY);
+            this.worldId = worldId;
+        }
+
+        long packed = pack(x, y, z);
+        int tagTypeId = (tagType.ordinal() + 1);
+        int slot = findSlot(packed, tagTypeId);
+        if (this.tagTypes[slot] == 0) {
+            if ((this.size + 1) * 2 > this.tagTypes.length) {
+                resize();
+                slot = findSlot(packed, tagTypeId);
+            }
+
+            this.size++;
+        }
+
+        setSlot(slot, packed, tagTypeId, safe, expireMillis);
+    }
+
+    /**
+     * @return The slot that holds the position, or the empty slot where it should be stored.
+     */
+    private int findSlot(long packed, int tagTypeId) {
+        int mask = (this.tagTypes.length - 1);
+        int slot = getHash(packed, tagTypeId) & mask;
+        while (this.tagTypes[slot] != 0) {
+            if (this.tagTypes[slot] == tagTypeId && this.positions[slot] == packed) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void setSlot(int slot, long packed, int tagTypeId, boolean safe, long expireMillis) {
+        this.positions[slot] = packed;
+        this.tagTypes[slot] = (byte) tagTypeId;
+        this.results[slot] = safe;
+        this.expireTimes[slot] = expireMillis;
+    }
+
+    private void resize() {
+        long[] oldPositions = this.positions;
+        byte[] oldTagTypes = this.tagTypes;
+        boolean[] oldResults = this.results;
+        long[] oldExpireTimes = this.expireTimes;
+
+        long systemMillis = System.currentTimeMillis();
+        int liveCount = 0;
+        for (int i = 0; i < oldTagTypes.length; i++) {
+            if (oldTagTypes[i] != 0 && systemMillis < oldExpireTimes[i]) {
+                liveCount++;
+            }
+        }
+
+        int capacity = INITIAL_CAPACITY;
+        while ((liveCount + 1) * 2 > capacity && capacity < MAXIMUM_CAPACITY) {
+            capacity <<= 1;
+        }
+
+        allocate(capacity);
+        if ((liveCount + 1) * 2 > capacity) {
+            return;
+        }
+
+        for (int i = 0; i < oldTagTypes.length; i++) {
+            int tagTypeId = oldTagTypes[i];
+            if (tagTypeId == 0 || systemMillis >= oldExpireTimes[i]) {
+                continue;
+            }
+
+            int slot = findSlot(oldPositions[i], tagTypeId);
+            setSlot(slot, oldPositions[i], tagTypeId, oldResults[i], oldExpireTimes[i]);
+            this.size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.positions = new long[capacity];
+        this.tagTypes = new byte[capacity];
+        this.results = new boolean[capacity];
+        this.expireTimes = new long[capacity];
+        this.size = 0;
+    }
+
+    private static long pack(int x, int y, int z) {
+        return (((long) x & 0x3FFFFFFL) << 38) | (((long) z & 0x3FFFFFFL) << 12) | ((long) y & 0xFFFL);
+    }
+
+    private static int getHash(long packed, int tagTypeId) {
+        long hash = ((packed ^ tagTypeId) * 0x9E3779B97F4A7C15L);
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -23,6 +23,7 @@ public final class RegionExpansionConfiguration implements IConfigurable {
     private int messageCooldown;
     private boolean preventTeleport;
     private Set<TeleportCause> ignoredTeleportCauseSet;
+    private long safeZoneCacheTime;
 
     public RegionExpansionConfiguration() {
         this.noEntryMode = NoEntryMode.KNOCKBACK_PLAYER;
@@ -30,6 +31,7 @@ public final class RegionExpansionConfiguration implements IConfigurable {
         this.messageCooldown = 30;
         this.preventTeleport = true;
         this.ignoredTeleportCauseSet = EnumSet.noneOf(TeleportCause.class);
+        this.safeZoneCacheTime = 1000L;
     }
 
     @Override
@@ -37,6 +39,7 @@ public final class RegionExpansionConfiguration implements IConfigurable {
         setKnockbackStrength(config.getDouble("knockback-strength", 1.5D));
         setMessageCooldown(config.getInt("message-cooldown", 30));
         setPreventTeleport(config.getBoolean("prevent-teleport", true));
+        setSafeZoneCacheTime(config.getLong("safe-zone-cache-time", 1000L));
 
         String noEntryModeName = config.getString("no-entry-mode", "KNOCKBACK_PLAYER");
         setNoEntryMode(parseEnum(NoEntryMode.class, noEntryModeName, NoEntryMode.KNOCKBACK_PLAYER));
@@ -86,6 +89,14 @@ public final class RegionExpansionConfiguration implements IConfigurable {
         this.ignoredTeleportCauseSet.addAll(causes);
     }
 
+    public long getSafeZoneCacheTime() {
+        return this.safeZoneCacheTime;
+    }
+
+    public void setSafeZoneCacheTime(long safeZoneCacheTime) {
+        this.safeZoneCacheTime = safeZoneCacheTime;
+    }
+
     public boolean isIgnored(@NotNull TeleportCause cause) {
         Set<TeleportCause> causes = getIgnoredTeleportCauses();
         return causes.contains(cause);
@@ -0,0 +1,86 @@
+package com.github.sirblobman.combatlogx.api.expansion.region.listener;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.event.PlayerReTagEvent;
+import com.github.sirblobman.combatlogx.api.event.PlayerTagEvent;
+import com.github.sirblobman.combatlogx.api.event.PlayerUntagEvent;
+import com.github.sirblobman.combatlogx.api.expansion.region.RegionExpansion;
+import com.github.sirblobman.combatlogx.api.expansion.region.RegionHandler;
+import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+import com.github.sirblobman.combatlogx.api.object.TagInformation;
+import com.github.sirblobman.combatlogx.api.object.TagType;
+
+/**
+ * Removes cached safe zone results for a player when their kind of enemy changes
+ * or when they are no longer in combat.
+ * A re-tag by the same kind of enemy keeps the results, because players are re-tagged on every hit.
+ */
+public final class RegionCacheListener extends RegionExpansionListener {
+    public RegionCacheListener(@NotNull RegionExpansion expansion) {
+        super(expansion);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTag(PlayerTagEvent e) {
+        Player player = e.getPlayer();
+        invalidate(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onReTag(PlayerReTagEvent e) {
+        Player player = e.getPlayer();
+        TagType tagType = e.getTagType();
+        Entity enemy = e.getEnemy();
+        if (isEnemyKindChanged(player, tagType, enemy)) {
+            invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUntag(PlayerUntagEvent e) {
+        Player player = e.getPlayer();
+        invalidate(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        Player player = e.getPlayer();
+        invalidate(player);
+    }
+
+    /**
+     * The new tag is stored after this event, so the information of the player still has the previous tag.
+     * Some region handlers check the type of the enemy, so a different entity type also changes the results.
+     */
+    private boolean isEnemyKindChanged(@NotNull Player player, @NotNull TagType tagType, @Nullable Entity enemy) {
+        ICombatManager combatManager = getCombatManager();
+        TagInformation tagInformation = combatManager.getTagInformation(player);
+        if (tagInformation == null) {
+            return true;
+        }
+
+        TagType currentTagType = tagInformation.getCurrentTagType();
+        if (currentTagType != tagType) {
+            return true;
+        }
+
+        Entity currentEnemy = tagInformation.getCurrentEnemy();
+        EntityType currentEnemyType = (currentEnemy == null ? null : currentEnemy.getType());
+        EntityType enemyType = (enemy == null ? null : enemy.getType());
+        return (currentEnemyType != enemyType);
+    }
+
+    private void invalidate(@NotNull Player player) {
+        RegionHandler<?> regionHandler = getRegionHandler();
+        regionHandler.invalidateSafeZoneCache(player);
+    }
+}
@@ -39,9 +39,9 @@ public final class RegionMoveListener extends RegionExpansionListener {
         }
 
         RegionHandler<?> regionHandler = getRegionHandler();
-        if (regionHandler.isSafeZone(player, toLocation, tagInformation)) {
+        if (regionHandler.isSafeZoneCached(player, toLocation, tagInformation)) {
             Location fromLocation = e.getFrom();
-            if (!regionHandler.isSafeZone(player, fromLocation, tagInformation)) {
+            if (!regionHandler.isSafeZoneCached(player, fromLocation, tagInformation)) {
                 regionHandler.preventEntry(e, player, tagInformation, fromLocation, toLocation);
             }
         }
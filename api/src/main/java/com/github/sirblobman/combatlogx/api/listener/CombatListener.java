@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 import org.jetbrains.annotations.NotNull;
 
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -20,6 +21,7 @@ import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.manager.IDeathManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
 
 public abstract class CombatListener implements Listener {
     private final ICombatLogX plugin;
@@ -60,6 +62,12 @@ public abstract class CombatListener implements Listener {
         return combatLogX.getPlayerDataManager();
     }
 
+    protected final void savePlayerData(@NotNull OfflinePlayer player) {
+        ICombatLogX combatLogX = getCombatLogX();
+        IPlayerStateManager playerStateManager = combatLogX.getPlayerStateManager();
+        playerStateManager.savePlayerData(player);
+    }
+
     protected final @NotNull ICombatManager getCombatManager() {
         ICombatLogX plugin = getCombatLogX();
         return plugin.getCombatManager();
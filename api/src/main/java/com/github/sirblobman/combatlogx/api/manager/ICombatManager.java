@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.permissions.Permission;
+import org.bukkit.plugin.Plugin;
 
 import com.github.sirblobman.combatlogx.api.ICombatLogXNeeded;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
@@ -79,6 +80,12 @@ public interface ICombatManager extends ICombatLogXNeeded {
      */
     @NotNull List<Player> getPlayersInCombat();
 
+    /**
+     * @param enemy The enemy to check.
+     * @return A list of players that are currently tagged into combat with the specified enemy.
+     */
+    @NotNull List<Player> getPlayersTaggedBy(@NotNull Entity enemy);
+
     /**
      * Get combat tag information for the specified player.
      *
@@ -95,6 +102,22 @@ public interface ICombatManager extends ICombatLogXNeeded {
      */
     int getMaxTimerSeconds(@NotNull Player player);
 
+    /**
+     * Clear the cached permission timer for a player.
+     * This should be called when the permissions of the player are recalculated.
+     *
+     * @param playerId The {@link UUID} of the player to clear.
+     * @see #getMaxTimerSeconds(Player)
+     */
+    void clearTimerCache(@NotNull UUID playerId);
+
+    /**
+     * Clear the cached permission timers for all players.
+     *
+     * @see #clearTimerCache(UUID)
+     */
+    void clearTimerCache();
+
     /**
      * @return The current bypass permission, or {@code null} if one is not set.
      */
@@ -107,4 +130,20 @@ public interface ICombatManager extends ICombatLogXNeeded {
      * @return {@code true} if the player can bypass a combat tag.
      */
     boolean canBypass(@NotNull Player player);
+
+    /**
+     * Re-tags for the same enemy and tag type within the configured coalescing window only extend the existing tag.
+     * The {@link com.github.sirblobman.combatlogx.api.event.PlayerPreTagEvent} and
+     * {@link com.github.sirblobman.combatlogx.api.event.PlayerReTagEvent} are not fired for those re-tags.
+     * Plugins that need both events for every re-tag can disable coalescing with this method.
+     *
+     * @param plugin The plugin that needs every re-tag event.
+     */
+    void addReTagCoalescingBypass(@NotNull Plugin plugin);
+
+    /**
+     * @param plugin The plugin that no longer needs every re-tag event.
+     * @see #addReTagCoalescingBypass(Plugin)
+     */
+    void removeReTagCoalescingBypass(@NotNull Plugin plugin);
 }
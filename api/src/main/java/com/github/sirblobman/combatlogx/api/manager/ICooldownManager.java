@@ -0,0 +1,66 @@
+package com.github.sirblobman.combatlogx.api.manager;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogXNeeded;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
+
+/**
+ * A shared registry for player cooldowns, such as message or command cooldowns.
+ * All methods are safe to call from any thread.
+ */
+public interface ICooldownManager extends ICombatLogXNeeded {
+    /**
+     * Get or register a cooldown key that is removed when a player leaves the server.
+     *
+     * @param name The unique name of the key, for example {@code "expansion-name:message"}.
+     * @return The key for the name.
+     */
+    @NotNull CooldownKey getKey(@NotNull String name);
+
+    /**
+     * Get or register a cooldown key.
+     * The quit option is only used when the key is registered for the first time.
+     *
+     * @param name       The unique name of the key, for example {@code "expansion-name:message"}.
+     * @param keepOnQuit {@code true} to keep cooldowns for this key when a player leaves the server.
+     * @return The key for the name.
+     */
+    @NotNull CooldownKey getKey(@NotNull String name, boolean keepOnQuit);
+
+    boolean hasCooldown(@NotNull UUID playerId, @NotNull CooldownKey key);
+
+    /**
+     * @return The system time in milliseconds at which the cooldown expires, or {@code 0} if there is none.
+     */
+    long getExpireMillis(@NotNull UUID playerId, @NotNull CooldownKey key);
+
+    /**
+     * @return The amount of milliseconds left on the cooldown, or {@code 0} if there is none.
+     */
+    long getMillisLeft(@NotNull UUID playerId, @NotNull CooldownKey key);
+
+    /**
+     * @param expireMillis The system time in milliseconds at which the cooldown expires.
+     */
+    void setExpireMillis(@NotNull UUID playerId, @NotNull CooldownKey key, long expireMillis);
+
+    /**
+     * @param cooldownMillis The amount of milliseconds the cooldown lasts for, starting now.
+     */
+    void addCooldown(@NotNull UUID playerId, @NotNull CooldownKey key, long cooldownMillis);
+
+    void removeCooldown(@NotNull UUID playerId, @NotNull CooldownKey key);
+
+    /**
+     * Remove the cooldowns of a player that are not kept when they leave the server.
+     */
+    void removeOnQuit(@NotNull UUID playerId);
+
+    /**
+     * Remove all expired cooldowns, and players that have no cooldowns left.
+     */
+    void removeExpired();
+}
@@ -1,6 +1,7 @@
 package com.github.sirblobman.combatlogx.api.manager;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -10,6 +11,7 @@ import org.bukkit.entity.Player;
 
 import com.github.sirblobman.combatlogx.api.ICombatLogXNeeded;
 import com.github.sirblobman.combatlogx.api.placeholder.IPlaceholderExpansion;
+import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderTemplate;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
 
 public interface IPlaceholderManager extends ICombatLogXNeeded {
@@ -27,6 +29,34 @@ public interface IPlaceholderManager extends ICombatLogXNeeded {
 
     @NotNull String replaceAll(@NotNull Player player, @NotNull List<Entity> enemyList, @NotNull String string);
 
+    /**
+     * Get the compiled template for a message.
+     * Templates are cached, so a message is only parsed once for each language.
+     *
+     * @param message The message that may contain placeholders.
+     * @return The template for the message.
+     */
+    @NotNull PlaceholderTemplate getTemplate(@NotNull Component message);
+
+    /**
+     * Replace the placeholders in a template with their component replacements.
+     * Placeholders that are not known are replaced with their name.
+     *
+     * @param player    The player that will see the message.
+     * @param enemyList The enemies of the player.
+     * @param template  The template to render.
+     * @return The message with all placeholders replaced.
+     */
+    @NotNull Component render(@NotNull Player player, @NotNull List<Entity> enemyList,
+                              @NotNull PlaceholderTemplate template);
+
+    /**
+     * Remove the cached placeholder replacements of a player.
+     *
+     * @param playerId The unique id of the player.
+     */
+    void clearPlayerCache(@NotNull UUID playerId);
+
     void runReplacedCommands(@NotNull Player player, @NotNull List<Entity> enemyList,
                              @NotNull Iterable<String> commands);
 }
@@ -0,0 +1,65 @@
+package com.github.sirblobman.combatlogx.api.manager;
+
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.OfflinePlayer;
+
+import com.github.sirblobman.api.configuration.PlayerDataManager;
+import com.github.sirblobman.combatlogx.api.ICombatLogXNeeded;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
+import com.github.sirblobman.combatlogx.api.storage.PlayerStateStorage;
+
+/**
+ * Keeps a {@link CombatPlayerState} in memory for each online player.
+ * The configured {@link PlayerStateStorage} is only used to load and save the state.
+ * Changed player data files are written from a background thread, see {@link #savePlayerData(OfflinePlayer)}.
+ */
+public interface IPlayerStateManager extends ICombatLogXNeeded {
+    /**
+     * Get the state of a player. The state of an online player is loaded once and then kept in memory.
+     * The state of an offline player is loaded from the storage every time and is not kept.
+     * Loading an offline player waits for the storage, so {@link #updateState(OfflinePlayer, Consumer)}
+     * should be used to change the state of a player that may be offline.
+     *
+     * @param player The player to get the state for.
+     * @return The state of the player.
+     */
+    @NotNull CombatPlayerState getState(@NotNull OfflinePlayer player);
+
+    /**
+     * Change the state of a player and save it.
+     * The change is applied right away if the state is in memory.
+     * Otherwise, the state is loaded from the storage without waiting and the change is applied once it is loaded,
+     * possibly on a different thread.
+     *
+     * @param player The player to change the state for.
+     * @param action The change to apply.
+     */
+    void updateState(@NotNull OfflinePlayer player, @NotNull Consumer<CombatPlayerState> action);
+
+    /**
+     * Write the changed values of a state to the storage.
+     * A state without changes is not written.
+     *
+     * @param state The state to save.
+     */
+    void saveState(@NotNull CombatPlayerState state);
+
+    /**
+     * Save the state of a player and remove it from memory.
+     *
+     * @param player The player to unload.
+     */
+    void unloadState(@NotNull OfflinePlayer player);
+
+    /**
+     * Mark the data file of a player as changed.
+     * Changes are saved together after the save interval, when the player leaves, or when the plugin is disabled.
+     * This should be used instead of {@link PlayerDataManager#save(OfflinePlayer)}.
+     *
+     * @param player The player that owns the changed data file.
+     */
+    void savePlayerData(@NotNull OfflinePlayer player);
+}
@@ -0,0 +1,234 @@
+package com.github.sirblobman.combatlogx.api.object;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * A typed copy of the CombatLogX values in the data file of a player.
+ * The values are read once when the state is loaded, so hot paths do not need to query the data file.
+ * Changed values are marked as dirty and only those values are written back when the state is saved.
+ */
+public final class CombatPlayerState {
+    private static final int DIRTY_ACTION_BAR = 1;
+    private static final int DIRTY_BOSS_BAR = (1 << 1);
+    private static final int DIRTY_SCOREBOARD = (1 << 2);
+    private static final int DIRTY_FORGIVE_TOGGLE = (1 << 3);
+    private static final int DIRTY_PUNISHMENT_COUNT = (1 << 4);
+    private static final int DIRTY_KILL_ON_JOIN = (1 << 5);
+    private static final int DIRTY_NEWBIE_PROTECTION = (1 << 6);
+    private static final int DIRTY_NEWBIE_PVP_TOGGLE = (1 << 7);
+
+    private final UUID playerId;
+    private volatile boolean actionBarEnabled;
+    private volatile boolean bossBarEnabled;
+    private volatile boolean scoreboardEnabled;
+    private volatile boolean forgiveToggle;
+    private volatile long punishmentCount;
+    private volatile boolean killOnJoin;
+    private volatile boolean newbieProtected;
+    private volatile long newbieProtectionExpireMillis;
+    private volatile Boolean newbiePvpToggle;
+    private int dirtyFlags;
+
+    public CombatPlayerState(@NotNull UUID playerId) {
+        this.playerId = playerId;
+        this.actionBarEnabled = true;
+        this.bossBarEnabled = true;
+        this.scoreboardEnabled = true;
+        this.forgiveToggle = false;
+        this.punishmentCount = 0L;
+        this.killOnJoin = false;
+        this.newbieProtected = false;
+        this.newbieProtectionExpireMillis = 0L;
+        this.newbiePvpToggle = null;
+        this.dirtyFlags = 0;
+    }
+
+    public @NotNull UUID getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Read all values from the data file of the player.
+     * Values that are missing from the file use their default value.
+     */
+    public synchronized void load(@NotNull ConfigurationSection section) {
+        this.actionBarEnabled = section.getBoolean("actionbar", true);
+        this.bossBarEnabled = section.getBoolean("bossbar", true);
+        this.scoreboardEnabled = section.getBoolean("scoreboard", true);
+        this.forgiveToggle = section.getBoolean("forgive-toggle", false);
+        this.punishmentCount = section.getLong("punishment-count", 0L);
+        this.killOnJoin = section.getBoolean("kill-on-join", false);
+        this.newbieProtected = section.getBoolean("newbie-helper.protected", false);
+        this.newbieProtectionExpireMillis = section.getLong("newbie-helper.protection-expire-time", 0L);
+
+        String pvpTogglePath = "newbie-helper.pvp-toggle";
+        this.newbiePvpToggle = (section.isSet(pvpTogglePath) ? section.getBoolean(pvpTogglePath) : null);
+        this.dirtyFlags = 0;
+    }
+
+    /**
+     * Write the changed values to the data file of the player and mark the state as clean.
+     *
+     * @return {@code true} if any value was written, otherwise {@code false}.
+     */
+    public synchronized boolean save(@NotNull ConfigurationSection section) {
+        int dirtyFlags = this.dirtyFlags;
+        if (dirtyFlags == 0) {
+            return false;
+        }
+
+        if ((dirtyFlags & DIRTY_ACTION_BAR) != 0) {
+            section.set("actionbar", this.actionBarEnabled);
+        }
+
+        if ((dirtyFlags & DIRTY_BOSS_BAR) != 0) {
+            section.set("bossbar", this.bossBarEnabled);
+        }
+
+        if ((dirtyFlags & DIRTY_SCOREBOARD) != 0) {
+            section.set("scoreboard", this.scoreboardEnabled);
+        }
+
+        if ((dirtyFlags & DIRTY_FORGIVE_TOGGLE) != 0) {
+            section.set("forgive-toggle", this.forgiveToggle);
+        }
+
+        if ((dirtyFlags & DIRTY_PUNISHMENT_COUNT) != 0) {
+            section.set("punishment-count", this.punishmentCount);
+        }
+
+        if ((dirtyFlags & DIRTY_KILL_ON_JOIN) != 0) {
+            section.set("kill-on-join", this.killOnJoin);
+        }
+
+        if ((dirtyFlags & DIRTY_NEWBIE_PROTECTION) != 0) {
+            boolean newbieProtected = this.newbieProtected;
+            Long expireMillis = (newbieProtected ? this.newbieProtectionExpireMillis : null);
+            section.set("newbie-helper.protection-expire-time", expireMillis);
+            section.set("newbie-helper.protected", newbieProtected);
+        }
+
+        if ((dirtyFlags & DIRTY_NEWBIE_PVP_TOGGLE) != 0) {
+            section.set("newbie-helper.pvp-toggle", this.newbiePvpToggle);
+        }
+
+        this.dirtyFlags = 0;
+        return true;
+    }
+
+    /**
+     * @return {@code true} if any value was changed since the state was loaded or saved.
+     */
+    public synchronized boolean isDirty() {
+        return (this.dirtyFlags != 0);
+    }
+
+    /**
+     * Mark the state as clean, for storages that always save every value.
+     *
+     * @return {@code true} if the state was dirty before, otherwise {@code false}.
+     */
+    public synchronized boolean clearDirty() {
+        boolean dirty = (this.dirtyFlags != 0);
+        this.dirtyFlags = 0;
+        return dirty;
+    }
+
+    public boolean isActionBarEnabled() {
+        return this.actionBarEnabled;
+    }
+
+    public synchronized void setActionBarEnabled(boolean enabled) {
+        this.actionBarEnabled = enabled;
+        this.dirtyFlags |= DIRTY_ACTION_BAR;
+    }
+
+    public boolean isBossBarEnabled() {
+        return this.bossBarEnabled;
+    }
+
+    public synchronized void setBossBarEnabled(boolean enabled) {
+        this.bossBarEnabled = enabled;
+        this.dirtyFlags |= DIRTY_BOSS_BAR;
+    }
+
+    public boolean isScoreboardEnabled() {
+        return this.scoreboardEnabled;
+    }
+
+    public synchronized void setScoreboardEnabled(boolean enabled) {
+        this.scoreboardEnabled = enabled;
+        this.dirtyFlags |= DIRTY_SCOREBOARD;
+    }
+
+    public boolean getForgiveToggle() {
+        return this.forgiveToggle;
+    }
+
+    public synchronized void setForgiveToggle(boolean value) {
+        this.forgiveToggle = value;
+        this.dirtyFlags |= DIRTY_FORGIVE_TOGGLE;
+    }
+
+    public long getPunishmentCount() {
+        return this.punishmentCount;
+    }
+
+    public synchronized void setPunishmentCount(long punishmentCount) {
+        this.punishmentCount = punishmentCount;
+        this.dirtyFlags |= DIRTY_PUNISHMENT_COUNT;
+    }
+
+    public synchronized void increasePunishmentCount() {
+        this.punishmentCount++;
+        this.dirtyFlags |= DIRTY_PUNISHMENT_COUNT;
+    }
+
+    public boolean isKillOnJoin() {
+        return this.killOnJoin;
+    }
+
+    public synchronized void setKillOnJoin(boolean killOnJoin) {
+        this.killOnJoin = killOnJoin;
+        this.dirtyFlags |= DIRTY_KILL_ON_JOIN;
+    }
+
+    public boolean isNewbieProtected() {
+        return this.newbieProtected;
+    }
+
+    /**
+     * @return The system time in milliseconds at which newbie protection expires,
+     * or {@code 0} if the player is not protected.
+     */
+    public long getNewbieProtectionExpireMillis() {
+        return (this.newbieProtected ? this.newbieProtectionExpireMillis : 0L);
+    }
+
+    /**
+     * @param expireMillis The system time in milliseconds at which newbie protection expires.
+     *                     This value is ignored when protection is disabled.
+     */
+    public synchronized void setNewbieProtection(boolean newbieProtected, long expireMillis) {
+        this.newbieProtected = newbieProtected;
+        this.newbieProtectionExpireMillis = (newbieProtected ? expireMillis : 0L);
+        this.dirtyFlags |= DIRTY_NEWBIE_PROTECTION;
+    }
+
+    /**
+     * @return The newbie helper PVP toggle value, or {@code null} if the player never changed it.
+     */
+    public @Nullable Boolean getNewbiePvpToggle() {
+        return this.newbiePvpToggle;
+    }
+
+    public synchronized void setNewbiePvpToggle(@Nullable Boolean pvp) {
+        this.newbiePvpToggle = pvp;
+        this.dirtyFlags |= DIRTY_NEWBIE_PVP_TOGGLE;
+    }
+}
@@ -14,9 +14,18 @@ public final class CombatTag implements Comparable<CombatTag> {
     private final TagType tagType;
     private final TagReason tagReason;
     private final long expireMillis;
+    private final long tagMillis;
 
     public CombatTag(@Nullable Entity enemy, @NotNull TagType tagType, @NotNull TagReason tagReason,
                      long expireMillis) {
+        this(enemy, tagType, tagReason, expireMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * @param tagMillis The time when the tag was created by a full tag with events.
+     */
+    public CombatTag(@Nullable Entity enemy, @NotNull TagType tagType, @NotNull TagReason tagReason,
+                     long expireMillis, long tagMillis) {
         if (enemy != null) {
             this.enemyId = enemy.getUniqueId();
             this.enemyReference = new WeakReference<>(enemy);
@@ -28,6 +37,7 @@ public final class CombatTag implements Comparable<CombatTag> {
         this.tagType = tagType;
         this.tagReason = tagReason;
         this.expireMillis = expireMillis;
+        this.tagMillis = tagMillis;
     }
 
     public @Nullable UUID getEnemyId() {
@@ -59,6 +69,14 @@ public final class CombatTag implements Comparable<CombatTag> {
         return this.expireMillis;
     }
 
+    /**
+     * @return The time when this tag was created by a full tag with events.
+     * Tags that were only extended by re-tag coalescing keep the original time.
+     */
+    public long getTagMillis() {
+        return this.tagMillis;
+    }
+
     public boolean isExpired() {
         long systemMillis = System.currentTimeMillis();
         long expireMillis = getExpireMillis();
@@ -0,0 +1,61 @@
+package com.github.sirblobman.combatlogx.api.object;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cooldown type that was registered with the cooldown manager.
+ * Keys are interned by name, so each name always has the same key and id.
+ */
+public final class CooldownKey {
+    private final int id;
+    private final String name;
+    private final boolean keepOnQuit;
+
+    public CooldownKey(int id, @NotNull String name, boolean keepOnQuit) {
+        this.id = id;
+        this.name = name;
+        this.keepOnQuit = keepOnQuit;
+    }
+
+    /**
+     * @return The index of this key in the cooldown slots of a player.
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return {@code true} if cooldowns for this key are kept when a player leaves the server.
+     */
+    public boolean isKeepOnQuit() {
+        return this.keepOnQuit;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof CooldownKey)) {
+            return false;
+        }
+
+        CooldownKey other = (CooldownKey) object;
+        return (this.id == other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.id);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return this.name;
+    }
+}
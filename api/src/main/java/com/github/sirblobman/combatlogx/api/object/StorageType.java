@@ -0,0 +1,20 @@
+package com.github.sirblobman.combatlogx.api.object;
+
+import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
+
+/**
+ * The place where CombatLogX stores the typed state of players.
+ *
+ * @see MainConfiguration#getStorageType()
+ */
+public enum StorageType {
+    /**
+     * Store the state in the YAML file of each player, in the 'player-data' folder.
+     */
+    YAML,
+
+    /**
+     * Store the state of all players in a single SQLite database file.
+     */
+    SQLITE
+}
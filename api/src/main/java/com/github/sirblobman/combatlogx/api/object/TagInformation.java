@@ -15,9 +15,16 @@ import org.bukkit.entity.Player;
 
 import com.github.sirblobman.api.utility.Validate;
 
+/**
+ * Combat tag information for a single player.
+ * The tags are stored as an immutable snapshot sorted by descending expire time.
+ * Mutations replace the snapshot, so reads are safe from any thread and never need to copy or sort.
+ */
 public final class TagInformation {
     private final UUID playerId;
-    private final List<CombatTag> tagList;
+    private volatile List<CombatTag> tagList;
+    private volatile List<UUID> enemyIdList;
+    private volatile CombatTag currentEnemyTag;
 
     public TagInformation(@NotNull OfflinePlayer player) {
         this(player.getUniqueId());
@@ -25,7 +32,9 @@ public final class TagInformation {
 
     public TagInformation(@NotNull UUID playerId) {
         this.playerId = playerId;
-        this.tagList = new ArrayList<>();
+        this.tagList = Collections.emptyList();
+        this.enemyIdList = Collections.emptyList();
+        this.currentEnemyTag = null;
     }
 
     /**
@@ -61,9 +70,7 @@ public final class TagInformation {
      * The list is sorted by descending expire time.
      */
     public @NotNull List<CombatTag> getTags() {
-        List<CombatTag> tagList = new ArrayList<>(this.tagList);
-        tagList.sort(Collections.reverseOrder());
-        return Collections.unmodifiableList(tagList);
+        return this.tagList;
     }
 
     /**
@@ -71,17 +78,7 @@ public final class TagInformation {
      * The list is sorted by descending expire time.
      */
     public @NotNull List<UUID> getEnemyIds() {
-        List<CombatTag> tagList = getTags();
-        List<UUID> enemyIdList = new ArrayList<>();
-
-        for (CombatTag combatTag : tagList) {
-            UUID enemyId = combatTag.getEnemyId();
-            if (enemyId != null) {
-                enemyIdList.add(enemyId);
-            }
-        }
-
-        return Collections.unmodifiableList(enemyIdList);
+        return this.enemyIdList;
     }
 
     /**
@@ -90,13 +87,12 @@ public final class TagInformation {
      */
     public @NotNull List<Entity> getEnemies() {
         List<CombatTag> tagList = getTags();
-        List<Entity> enemyList = new ArrayList<>();
-
-        if (tagList.isEmpty()) return enemyList;
+        if (tagList.isEmpty()) {
+            return Collections.emptyList();
+        }
 
+        List<Entity> enemyList = new ArrayList<>(tagList.size());
         for (CombatTag combatTag : tagList) {
-            if (combatTag == null) continue;
-
             Entity enemy = combatTag.getEnemy();
             if (enemy != null) {
                 enemyList.add(enemy);
@@ -107,31 +103,83 @@ public final class TagInformation {
     }
 
     public boolean isEnemy(@NotNull Entity entity) {
-        List<CombatTag> tagList = getTags();
-        for (CombatTag combatTag : tagList) {
-            if (combatTag.doesEnemyMatch(entity)) {
-                return true;
-            }
-        }
-
-        return false;
+        return (getTagForEnemy(entity) != null);
     }
 
-    public void addTag(@NotNull CombatTag combatTag) {
+    public synchronized void addTag(@NotNull CombatTag combatTag) {
         if (combatTag.isExpired()) {
             throw new IllegalArgumentException("combatTag is already expired!");
         }
 
-        if (this.tagList.contains(combatTag)) {
+        List<CombatTag> oldTagList = this.tagList;
+        if (oldTagList.contains(combatTag)) {
             throw new IllegalArgumentException("The player already has that combat tag.");
         }
 
-        this.tagList.removeIf(otherTag -> otherTag.doesEnemyMatch(combatTag.getEnemy()));
-        this.tagList.add(combatTag);
+        Entity enemy = combatTag.getEnemy();
+        long expireMillis = combatTag.getExpireMillis();
+        List<CombatTag> newTagList = new ArrayList<>(oldTagList.size() + 1);
+        boolean added = false;
+
+        for (CombatTag otherTag : oldTagList) {
+            if (otherTag.getEnemy() == enemy) {
+                continue;
+            }
+
+            if (!added && otherTag.getExpireMillis() < expireMillis) {
+                newTagList.add(combatTag);
+                added = true;
+            }
+
+            newTagList.add(otherTag);
+        }
+
+        if (!added) {
+            newTagList.add(combatTag);
+        }
+
+        setTags(newTagList);
     }
 
-    public void removeEnemy(@NotNull Entity entity) {
-        this.tagList.removeIf(combatTag -> combatTag.doesEnemyMatch(entity));
+    /**
+     * Replace a tag with a copy that expires later.
+     * The copy keeps the tag time of the original tag.
+     *
+     * @param combatTag    The current tag.
+     * @param expireMillis The new expire time, must be after the current expire time.
+     * @return {@code false} if the tag is no longer part of this information or the enemy was unloaded.
+     */
+    public synchronized boolean extendTag(@NotNull CombatTag combatTag, long expireMillis) {
+        List<CombatTag> oldTagList = this.tagList;
+        if (!oldTagList.contains(combatTag) || expireMillis <= combatTag.getExpireMillis()) {
+            return false;
+        }
+
+        Entity enemy = combatTag.getEnemy();
+        if (enemy == null && combatTag.getEnemyId() != null) {
+            return false;
+        }
+
+        TagType tagType = combatTag.getTagType();
+        TagReason tagReason = combatTag.getTagReason();
+        long tagMillis = combatTag.getTagMillis();
+        CombatTag newTag = new CombatTag(enemy, tagType, tagReason, expireMillis, tagMillis);
+        addTag(newTag);
+        return true;
+    }
+
+    public synchronized void removeEnemy(@NotNull Entity entity) {
+        List<CombatTag> oldTagList = this.tagList;
+        List<CombatTag> newTagList = new ArrayList<>(oldTagList.size());
+        for (CombatTag combatTag : oldTagList) {
+            if (!combatTag.doesEnemyMatch(entity)) {
+                newTagList.add(combatTag);
+            }
+        }
+
+        if (newTagList.size() != oldTagList.size()) {
+            setTags(newTagList);
+        }
     }
 
     public long getExpireMillisCombined() {
@@ -156,13 +204,23 @@ public final class TagInformation {
     }
 
     public boolean isExpired() {
-        this.tagList.removeIf(CombatTag::isExpired);
-        return this.tagList.isEmpty();
+        List<CombatTag> tagList = getTags();
+        if (tagList.isEmpty()) {
+            return true;
+        }
+
+        // The list is sorted by descending expire time, so nothing expired if the last tag is still active.
+        CombatTag oldestTag = tagList.get(tagList.size() - 1);
+        if (!oldestTag.isExpired()) {
+            return false;
+        }
+
+        return removeExpiredTags();
     }
 
     public @NotNull List<TagType> getTagTypes() {
         List<CombatTag> tagList = getTags();
-        List<TagType> tagTypeList = new ArrayList<>();
+        List<TagType> tagTypeList = new ArrayList<>(tagList.size());
 
         for (CombatTag combatTag : tagList) {
             TagType tagType = combatTag.getTagType();
@@ -173,21 +231,36 @@ public final class TagInformation {
     }
 
     public @NotNull TagType getCurrentTagType() {
-        List<TagType> tagTypeList = getTagTypes();
-        if (tagTypeList.isEmpty()) {
+        List<CombatTag> tagList = getTags();
+        if (tagList.isEmpty()) {
             return TagType.UNKNOWN;
         }
 
-        return tagTypeList.get(0);
+        CombatTag latestTag = tagList.get(0);
+        return latestTag.getTagType();
     }
 
     public @Nullable Entity getCurrentEnemy() {
-        List<Entity> enemyList = getEnemies();
-        if (enemyList.isEmpty()) {
+        CombatTag currentEnemyTag = this.currentEnemyTag;
+        if (currentEnemyTag == null) {
             return null;
         }
 
-        return enemyList.get(0);
+        Entity enemy = currentEnemyTag.getEnemy();
+        if (enemy != null) {
+            return enemy;
+        }
+
+        // The cached enemy was unloaded, fall back to the next enemy that is still available.
+        List<CombatTag> tagList = getTags();
+        for (CombatTag combatTag : tagList) {
+            Entity otherEnemy = combatTag.getEnemy();
+            if (otherEnemy != null) {
+                return otherEnemy;
+            }
+        }
+
+        return null;
     }
 
     public @Nullable CombatTag getTagForEnemy(Entity entity) {
@@ -202,4 +275,41 @@ public final class TagInformation {
 
         return null;
     }
+
+    private synchronized boolean removeExpiredTags() {
+        List<CombatTag> oldTagList = this.tagList;
+        List<CombatTag> newTagList = new ArrayList<>(oldTagList.size());
+        for (CombatTag combatTag : oldTagList) {
+            if (!combatTag.isExpired()) {
+                newTagList.add(combatTag);
+            }
+        }
+
+        if (newTagList.size() != oldTagList.size()) {
+            setTags(newTagList);
+        }
+
+        return newTagList.isEmpty();
+    }
+
+    private void setTags(@NotNull List<CombatTag> sortedTagList) {
+        List<UUID> enemyIdList = new ArrayList<>(sortedTagList.size());
+        CombatTag currentEnemyTag = null;
+
+        for (CombatTag combatTag : sortedTagList) {
+            UUID enemyId = combatTag.getEnemyId();
+            if (enemyId == null) {
+                continue;
+            }
+
+            enemyIdList.add(enemyId);
+            if (currentEnemyTag == null && combatTag.getEnemy() != null) {
+                currentEnemyTag = combatTag;
+            }
+        }
+
+        this.enemyIdList = Collections.unmodifiableList(enemyIdList);
+        this.currentEnemyTag = currentEnemyTag;
+        this.tagList = Collections.unmodifiableList(sortedTagList);
+    }
 }
@@ -21,6 +21,20 @@ public interface TimerUpdater {
      */
     void update(@NotNull Player player, long timeLeftMillis);
 
+    /**
+     * This method is used when adaptive timer updates are enabled.
+     * The {@link #update(Player, long)} method is only executed when the returned step changes,
+     * for example once per second for a timer that is shown in whole seconds.
+     *
+     * @param player         The player for this update.
+     * @param timeLeftMillis The amount of time left in combat for this player.
+     * @return A value that changes whenever the display for this player could change,
+     * or {@code -1} to update the player every timer period.
+     */
+    default long getDisplayStep(@NotNull Player player, long timeLeftMillis) {
+        return -1L;
+    }
+
     /**
      * This method is executed whenever a player is untagged.
      *
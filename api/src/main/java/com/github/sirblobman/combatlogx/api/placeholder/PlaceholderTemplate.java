@@ -0,0 +1,85 @@
+package com.github.sirblobman.combatlogx.api.placeholder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+
+/**
+ * A message that was parsed once into literal parts and placeholder slots.
+ * Rendering a template only resolves each distinct placeholder once and does not use regular expressions.
+ * Placeholders use the same {placeholder} format as {@link PlaceholderHelper} messages.
+ */
+public final class PlaceholderTemplate {
+    private final Component message;
+    private final List<String> placeholderList;
+    private final PlaceholderTemplateNode root;
+
+    private PlaceholderTemplate(@NotNull Component message, @NotNull List<String> placeholderList,
+                                @NotNull PlaceholderTemplateNode root) {
+        this.message = message;
+        this.placeholderList = Collections.unmodifiableList(placeholderList);
+        this.root = root;
+    }
+
+    /**
+     * Parse a message into a template.
+     *
+     * @param message The message that may contain placeholders.
+     * @return A new template for the message.
+     */
+    public static @NotNull PlaceholderTemplate compile(@NotNull Component message) {
+        List<String> placeholderList = new ArrayList<>();
+        PlaceholderTemplateNode root = PlaceholderTemplateNode.compile(message, placeholderList);
+        return new PlaceholderTemplate(message, placeholderList, root);
+    }
+
+    /**
+     * @return The original message of this template.
+     */
+    public @NotNull Component getMessage() {
+        return this.message;
+    }
+
+    /**
+     * @return The distinct placeholders in this template, without brackets, in order of appearance.
+     */
+    public @NotNull List<String> getPlaceholders() {
+        return this.placeholderList;
+    }
+
+    /**
+     * @return {@code true} if this template does not contain any placeholders.
+     */
+    public boolean isStatic() {
+        return this.placeholderList.isEmpty();
+    }
+
+    /**
+     * Fill the placeholder slots of this template.
+     *
+     * @param resolver A function that returns the replacement for a placeholder (without brackets).
+     *                 When the function returns {@code null}, the original placeholder text is kept.
+     * @return The message with all placeholders replaced.
+     */
+    public @NotNull Component render(@NotNull Function<String, @Nullable Component> resolver) {
+        if (isStatic()) {
+            return this.message;
+        }
+
+        int placeholderCount = this.placeholderList.size();
+        Component[] values = new Component[placeholderCount];
+        for (int i = 0; i < placeholderCount; i++) {
+            String placeholder = this.placeholderList.get(i);
+            Component replacement = resolver.apply(placeholder);
+            values[i] = (replacement == null ? Component.text("{" + placeholder + "}") : replacement);
+        }
+
+        return this.root.render(values);
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.sirblobman.combatlogx.api.placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+import com.github.sirblobman.api.shaded.adventure.text.TextComponent;
+
+/**
+ * A single component of a compiled {@link PlaceholderTemplate}.
+ * Components that do not contain placeholders are kept as they are and reused for every render.
+ */
+final class PlaceholderTemplateNode {
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{(\\S+)}");
+
+    private final Component component;
+    private final Object[] contentParts;
+    private final PlaceholderTemplateNode[] children;
+
+    private PlaceholderTemplateNode(@NotNull Component component, Object @Nullable [] contentParts,
+                                    PlaceholderTemplateNode @Nullable [] children) {
+        this.component = component;
+        this.contentParts = contentParts;
+        this.children = children;
+    }
+
+    static @NotNull PlaceholderTemplateNode compile(@NotNull Component component,
+                                                    @NotNull List<String> placeholderList) {
+        Object[] contentParts = null;
+        if (component instanceof TextComponent) {
+            TextComponent textComponent = (TextComponent) component;
+            String content = textComponent.content();
+            contentParts = compileContent(content, placeholderList);
+        }
+
+        List<Component> childList = component.children();
+        int childCount = childList.size();
+        PlaceholderTemplateNode[] children = new PlaceholderTemplateNode[childCount];
+        boolean dynamicChildren = false;
+
+        for (int i = 0; i < childCount; i++) {
+            Component child = childList.get(i);
+            PlaceholderTemplateNode childNode = compile(child, placeholderList);
+            children[i] = childNode;
+            if (!childNode.isStatic()) {
+                dynamicChildren = true;
+            }
+        }
+
+        return new PlaceholderTemplateNode(component, contentParts, dynamicChildren ? children : null);
+    }
+
+    /**
+     * Split text content into literal components and placeholder slot indexes.
+     *
+     * @return The parts of the content, or {@code null} if the content does not contain placeholders.
+     */
+    private static Object @Nullable [] compileContent(@NotNull String content, @NotNull List<String> placeholderList) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(content);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        List<Object> partList = new ArrayList<>();
+        int lastEnd = 0;
+        do {
+            int start = matcher.start();
+            if (start > lastEnd) {
+                String literal = content.substring(lastEnd, start);
+                partList.add(Component.text(literal));
+            }
+
+            String placeholder = matcher.group(1);
+            int slot = placeholderList.indexOf(placeholder);
+            if (slot == -1) {
+                slot = placeholderList.size();
+                placeholderList.add(placeholder);
+            }
+
+            partList.add(slot);
+            lastEnd = matcher.end();
+        } while (matcher.find());
+
+        int contentLength = content.length();
+        if (lastEnd < contentLength) {
+            String literal = content.substring(lastEnd);
+            partList.add(Component.text(literal));
+        }
+
+        return partList.toArray();
+    }
+
+    boolean isStatic() {
+        return (this.contentParts == null && this.children == null);
+    }
+
+    @NotNull Component render(Component @NotNull [] values) {
+        if (isStatic()) {
+            return this.component;
+        }
+
+        List<Component> childList = renderChildren(values);
+        if (this.contentParts == null) {
+            return this.component.children(childList);
+        }
+
+        TextComponent.Builder builder = Component.text();
+        builder.style(this.component.style());
+        for (Object part : this.contentParts) {
+            if (part instanceof Integer) {
+                int slot = (Integer) part;
+                builder.append(values[slot]);
+            } else {
+                builder.append((Component) part);
+            }
+        }
+
+        builder.append(childList);
+        return builder.build();
+    }
+
+    private @NotNull List<Component> renderChildren(Component @NotNull [] values) {
+        if (this.children == null) {
+            return this.component.children();
+        }
+
+        List<Component> childList = new ArrayList<>(this.children.length);
+        for (PlaceholderTemplateNode child : this.children) {
+            Component renderedChild = child.render(values);
+            childList.add(renderedChild);
+        }
+
+        return childList;
+    }
+}
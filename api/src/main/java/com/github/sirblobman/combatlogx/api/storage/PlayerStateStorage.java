@@ -0,0 +1,55 @@
+package com.github.sirblobman.combatlogx.api.storage;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.OfflinePlayer;
+
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
+import com.github.sirblobman.combatlogx.api.object.StorageType;
+
+/**
+ * A place where the {@link CombatPlayerState} of players is loaded from and saved to.
+ * The futures returned by a storage may be completed on a different thread.
+ */
+public interface PlayerStateStorage {
+    @NotNull StorageType getType();
+
+    /**
+     * Open the storage. This is called once, before any state is loaded.
+     *
+     * @throws Exception if the storage could not be opened.
+     */
+    void enable() throws Exception;
+
+    /**
+     * Finish all waiting saves and close the storage.
+     */
+    void disable();
+
+    /**
+     * @return {@code true} if states can be loaded from any thread,
+     * for example while a player is still logging in.
+     */
+    boolean isAsyncLoadSupported();
+
+    /**
+     * Load the state of a player.
+     * A player that does not have any stored data gets a state with default values.
+     *
+     * @param player The player to load.
+     * @return A future for the loaded state.
+     */
+    @NotNull CompletableFuture<CombatPlayerState> load(@NotNull OfflinePlayer player);
+
+    /**
+     * Save the changed values of one or more states.
+     * A storage may save states together with other waiting states in a single batch.
+     *
+     * @param states The states to save.
+     * @return A future that is completed once the states are saved.
+     */
+    @NotNull CompletableFuture<Void> save(@NotNull Collection<CombatPlayerState> states);
+}
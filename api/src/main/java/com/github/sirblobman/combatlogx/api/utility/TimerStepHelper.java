@@ -0,0 +1,82 @@
+package com.github.sirblobman.combatlogx.api.utility;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.combatlogx.api.object.TimerUpdater;
+import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderTemplate;
+
+/**
+ * Helper methods for {@link TimerUpdater#getDisplayStep(org.bukkit.entity.Player, long)}.
+ */
+public final class TimerStepHelper {
+    /**
+     * @return {@code -1} if the template can change at any time, {@code 0} if it does not change with the timer,
+     * or the amount of milliseconds between changes of the timer placeholders.
+     * The {@code {bars}} placeholder is ignored because it is replaced by the updater.
+     */
+    public static long getTemplateGranularity(@NotNull PlaceholderTemplate template) {
+        long granularity = 0L;
+        List<String> placeholderList = template.getPlaceholders();
+        for (String placeholder : placeholderList) {
+            switch (placeholder) {
+                case "bars":
+                case "combatlogx_player":
+                case "combatlogx_in_combat":
+                case "combatlogx_status":
+                    break;
+                case "combatlogx_time_left":
+                    granularity = (granularity == 0L ? 1000L : granularity);
+                    break;
+                case "combatlogx_time_left_decimal":
+                    granularity = 100L;
+                    break;
+                default:
+                    return -1L;
+            }
+        }
+
+        return granularity;
+    }
+
+    /**
+     * @param granularity A value from {@link #getTemplateGranularity(PlaceholderTemplate)}.
+     * @return The display step of the timer placeholders, or {@code -1} if it can't be calculated.
+     */
+    public static long getTimeStep(long granularity, long timeLeftMillis) {
+        if (granularity <= 0L) {
+            return granularity;
+        }
+
+        long clampedMillis = Math.max(0L, timeLeftMillis);
+        return (clampedMillis / granularity);
+    }
+
+    /**
+     * @return The amount of left bars for a progress bar with the specified scale.
+     */
+    public static long getBarStep(long timeLeftMillis, long timerMaxMillis, long scale) {
+        if (scale <= 0L || timerMaxMillis <= 0L) {
+            return 0L;
+        }
+
+        double percent = ((double) timeLeftMillis / (double) timerMaxMillis);
+        double clampedPercent = Math.max(0.0D, Math.min(percent, 1.0D));
+        return Math.round(scale * clampedPercent);
+    }
+
+    /**
+     * Combine a time step and a bar step into a single display step.
+     *
+     * @return {@code -1} if the time step is unknown, otherwise a value that changes when either step changes.
+     */
+    public static long combine(long timeStep, long barStep, long scale) {
+        if (timeStep < 0L || barStep < 0L) {
+            return -1L;
+        }
+
+        long barStepCount = (Math.max(0L, scale) + 1L);
+        return (timeStep * barStepCount + barStep);
+    }
+}
@@ -1,33 +1,40 @@
 package combatlogx.expansion.action.bar;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.api.utility.Validate;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
 import com.github.sirblobman.combatlogx.api.object.TimerUpdater;
+import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderTemplate;
+import com.github.sirblobman.combatlogx.api.utility.TimerStepHelper;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
 import com.github.sirblobman.api.shaded.adventure.text.TextComponent;
-import com.github.sirblobman.api.shaded.adventure.text.TextReplacementConfig;
 import com.github.sirblobman.api.shaded.adventure.text.format.TextColor;
 
 import combatlogx.expansion.action.bar.configuration.ActionBarConfiguration;
 
 public final class ActionBarUpdater implements TimerUpdater {
     private final ActionBarExpansion expansion;
+    private final Map<UUID, Long> granularityMap;
 
     public ActionBarUpdater(ActionBarExpansion expansion) {
         this.expansion = Validate.notNull(expansion, "expansion must not be null!");
+        this.granularityMap = new ConcurrentHashMap<>();
     }
 
     private ActionBarExpansion getExpansion() {
@@ -49,9 +56,9 @@ public final class ActionBarUpdater implements TimerUpdater {
         return combatLogX.getLanguageManager();
     }
 
-    private PlayerDataManager getPlayerDataManager() {
+    private IPlayerStateManager getPlayerStateManager() {
         ICombatLogX combatLogX = getCombatLogX();
-        return combatLogX.getPlayerDataManager();
+        return combatLogX.getPlayerStateManager();
     }
 
     @Override
@@ -66,6 +73,25 @@ public final class ActionBarUpdater implements TimerUpdater {
     @Override
     public void remove(Player player) {
         update(player, 0L);
+
+        UUID playerId = player.getUniqueId();
+        this.granularityMap.remove(playerId);
+    }
+
+    @Override
+    public long getDisplayStep(@NotNull Player player, long timeLeftMillis) {
+        UUID playerId = player.getUniqueId();
+        Long granularity = this.granularityMap.get(playerId);
+        if (granularity == null) {
+            return -1L;
+        }
+
+        long timeStep = TimerStepHelper.getTimeStep(granularity, timeLeftMillis);
+        ActionBarConfiguration configuration = getConfiguration();
+        long scale = configuration.getScale();
+        long timerMaxMillis = getTimerMaxMillis(player);
+        long barStep = TimerStepHelper.getBarStep(timeLeftMillis, timerMaxMillis, scale);
+        return TimerStepHelper.combine(timeStep, barStep, scale);
     }
 
     private boolean isGlobalEnabled() {
@@ -75,9 +101,9 @@ public final class ActionBarUpdater implements TimerUpdater {
 
     private boolean isDisabled(Player player) {
         if (isGlobalEnabled()) {
-            PlayerDataManager playerDataManager = getPlayerDataManager();
-            YamlConfiguration playerData = playerDataManager.get(player);
-            return !playerData.getBoolean("actionbar", true);
+            IPlayerStateManager playerStateManager = getPlayerStateManager();
+            CombatPlayerState state = playerStateManager.getState(player);
+            return !state.isActionBarEnabled();
         }
 
         return true;
@@ -94,36 +120,27 @@ public final class ActionBarUpdater implements TimerUpdater {
         ICombatLogX combatLogX = getCombatLogX();
         ICombatManager combatManager = combatLogX.getCombatManager();
         IPlaceholderManager placeholderManager = combatLogX.getPlaceholderManager();
-        Component message = languageManager.getMessage(player, "expansion.action-bar.timer");
-
-        TextReplacementConfig replacementConfig = getBarsReplacement(player, timeLeftMillis);
-        message = message.replaceText(replacementConfig);
+        Component timerMessage = languageManager.getMessage(player, "expansion.action-bar.timer");
+        PlaceholderTemplate template = placeholderManager.getTemplate(timerMessage);
+        updateGranularity(player, template);
 
         TagInformation tagInformation = combatManager.getTagInformation(player);
-        if (tagInformation != null) {
-            List<Entity> enemyList = tagInformation.getEnemies();
-            Pattern placeholderPattern = Pattern.compile("\\{(\\S+)}");
-            TextReplacementConfig.Builder builder = TextReplacementConfig.builder();
-            builder.match(placeholderPattern);
-            builder.replacement((matchResult, builderCopy) -> {
-                String placeholder = matchResult.group(1);
-                Component replacement = placeholderManager.getPlaceholderReplacementComponent(player,
-                        enemyList, placeholder);
-                return (replacement == null ? Component.text(placeholder) : replacement);
-            });
-
-            TextReplacementConfig replacement = builder.build();
-            message = message.replaceText(replacement);
-        }
+        List<Entity> enemyList = (tagInformation == null ? null : tagInformation.getEnemies());
+        Component message = template.render(placeholder -> {
+            if (placeholder.equals("bars")) {
+                return getBars(player, timeLeftMillis);
+            }
 
-        languageManager.sendActionBar(player, message);
-    }
+            if (enemyList == null) {
+                return null;
+            }
 
-    private TextReplacementConfig getBarsReplacement(Player player, long timeLeftMillis) {
-        TextReplacementConfig.Builder builder = TextReplacementConfig.builder();
-        builder.matchLiteral("{bars}");
-        builder.replacement(getBars(player, timeLeftMillis));
-        return builder.build();
+            Component replacement = placeholderManager.getPlaceholderReplacementComponent(player, enemyList,
+                    placeholder);
+            return (replacement == null ? Component.text(placeholder) : replacement);
+        });
+
+        languageManager.sendActionBar(player, message);
     }
 
     private Component getBars(Player player, long timeLeftMillis) {
@@ -134,16 +151,8 @@ public final class ActionBarUpdater implements TimerUpdater {
         TextColor leftColor = configuration.getLeftColor();
         TextColor rightColor = configuration.getRightColor();
 
-        ICombatLogX plugin = getCombatLogX();
-        ICombatManager combatManager = plugin.getCombatManager();
-        long timerMaxSeconds = combatManager.getMaxTimerSeconds(player);
-
-        double timerMaxMillis = TimeUnit.SECONDS.toMillis(timerMaxSeconds);
-        double scaleDouble = (double) scale;
-        double timeLeftMillisDouble = (double) timeLeftMillis;
-
-        double percent = clamp(timeLeftMillisDouble / timerMaxMillis);
-        long leftBarsCount = Math.round(scaleDouble * percent);
+        long timerMaxMillis = getTimerMaxMillis(player);
+        long leftBarsCount = TimerStepHelper.getBarStep(timeLeftMillis, timerMaxMillis, scale);
         long rightBarsCount = (scale - leftBarsCount);
 
         TextComponent.Builder builder = Component.text();
@@ -161,7 +170,23 @@ public final class ActionBarUpdater implements TimerUpdater {
         return builder.build();
     }
 
-    private double clamp(double value) {
-        return Math.max(0.0D, Math.min(value, 1.0D));
+    private long getTimerMaxMillis(Player player) {
+        ICombatLogX plugin = getCombatLogX();
+        ICombatManager combatManager = plugin.getCombatManager();
+        long timerMaxSeconds = combatManager.getMaxTimerSeconds(player);
+        return TimeUnit.SECONDS.toMillis(timerMaxSeconds);
+    }
+
+    /**
+     * Action bar messages fade out after a few seconds, so they are sent at least once per second.
+     */
+    private void updateGranularity(Player player, PlaceholderTemplate template) {
+        long granularity = TimerStepHelper.getTemplateGranularity(template);
+        if (granularity == 0L) {
+            granularity = 1000L;
+        }
+
+        UUID playerId = player.getUniqueId();
+        this.granularityMap.put(playerId, granularity);
     }
 }
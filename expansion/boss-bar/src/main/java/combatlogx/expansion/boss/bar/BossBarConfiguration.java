@@ -6,6 +6,8 @@ import org.bukkit.configuration.ConfigurationSection;
 
 import com.github.sirblobman.api.configuration.IConfigurable;
 import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar;
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+import com.github.sirblobman.api.shaded.adventure.text.TextComponent;
 import com.github.sirblobman.api.shaded.adventure.text.format.NamedTextColor;
 import com.github.sirblobman.api.shaded.adventure.text.format.TextColor;
 
@@ -24,6 +26,7 @@ public final class BossBarConfiguration implements IConfigurable {
     private transient BossBar.Overlay bossBarStyle;
     private transient TextColor leftColor;
     private transient TextColor rightColor;
+    private transient Component[] barsCache;
 
     public BossBarConfiguration() {
         setEnabled(true);
@@ -64,6 +67,7 @@ public final class BossBarConfiguration implements IConfigurable {
 
     public void setScale(long scale) {
         this.scale = scale;
+        this.barsCache = null;
     }
 
     public String getLeftColorString() {
@@ -73,6 +77,7 @@ public final class BossBarConfiguration implements IConfigurable {
     public void setLeftColorString(String leftColorString) {
         this.leftColorString = leftColorString;
         this.leftColor = null;
+        this.barsCache = null;
     }
 
     public String getRightColorString() {
@@ -82,6 +87,7 @@ public final class BossBarConfiguration implements IConfigurable {
     public void setRightColorString(String rightColorString) {
         this.rightColorString = rightColorString;
         this.rightColor = null;
+        this.barsCache = null;
     }
 
     public String getLeftSymbol() {
@@ -90,6 +96,7 @@ public final class BossBarConfiguration implements IConfigurable {
 
     public void setLeftSymbol(String leftSymbol) {
         this.leftSymbol = leftSymbol;
+        this.barsCache = null;
     }
 
     public String getRightSymbol() {
@@ -98,6 +105,7 @@ public final class BossBarConfiguration implements IConfigurable {
 
     public void setRightSymbol(String rightSymbol) {
         this.rightSymbol = rightSymbol;
+        this.barsCache = null;
     }
 
     @NotNull
@@ -140,6 +148,46 @@ public final class BossBarConfiguration implements IConfigurable {
         return (namedTextColor != null ? namedTextColor : defaultColor);
     }
 
+    /**
+     * Get the component for the {bars} placeholder. Components are created once for each amount of left bars.
+     *
+     * @param leftBarsCount The amount of symbols that use the left color, between zero and the scale.
+     */
+    public @NotNull Component getBars(long leftBarsCount) {
+        long scale = Math.max(0L, getScale());
+        int index = (int) Math.max(0L, Math.min(leftBarsCount, scale));
+
+        Component[] barsCache = this.barsCache;
+        if (barsCache == null || barsCache.length <= index) {
+            barsCache = new Component[(int) scale + 1];
+            this.barsCache = barsCache;
+        }
+
+        Component bars = barsCache[index];
+        if (bars == null) {
+            bars = createBars(index, scale - index);
+            barsCache[index] = bars;
+        }
+
+        return bars;
+    }
+
+    private @NotNull Component createBars(long leftBarsCount, long rightBarsCount) {
+        TextComponent.Builder builder = Component.text();
+        Component leftSymbolComponent = Component.text(getLeftSymbol(), getLeftColor());
+        Component rightSymbolComponent = Component.text(getRightSymbol(), getRightColor());
+
+        for (long i = 0; i < leftBarsCount; i++) {
+            builder.append(leftSymbolComponent);
+        }
+
+        for (long i = 0; i < rightBarsCount; i++) {
+            builder.append(rightSymbolComponent);
+        }
+
+        return builder.build();
+    }
+
     public String getBossBarColorName() {
         return bossBarColorName;
     }
@@ -0,0 +1,72 @@
+package combatlogx.expansion.boss.bar;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.api.shaded.adventure.audience.Audience;
+import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar;
+import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar.Color;
+import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar.Overlay;
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+
+/**
+ * The boss bar of a single player and the values that were last sent to them.
+ * Values are only pushed to the boss bar when they are different from the last update.
+ */
+final class BossBarState {
+    private final BossBar bossBar;
+    private Component title;
+    private float progress;
+    private Color color;
+    private Overlay overlay;
+    private boolean shown;
+
+    BossBarState(@NotNull Component title, float progress, @NotNull Color color, @NotNull Overlay overlay) {
+        this.bossBar = BossBar.bossBar(title, progress, color, overlay);
+        this.title = title;
+        this.progress = progress;
+        this.color = color;
+        this.overlay = overlay;
+        this.shown = false;
+    }
+
+    @NotNull BossBar getBossBar() {
+        return this.bossBar;
+    }
+
+    synchronized void update(@NotNull Component title, float progress, @NotNull Color color,
+                             @NotNull Overlay overlay) {
+        if (Float.compare(progress, this.progress) != 0) {
+            this.progress = progress;
+            this.bossBar.progress(progress);
+        }
+
+        if (color != this.color) {
+            this.color = color;
+            this.bossBar.color(color);
+        }
+
+        if (overlay != this.overlay) {
+            this.overlay = overlay;
+            this.bossBar.overlay(overlay);
+        }
+
+        if (!Objects.equals(title, this.title)) {
+            this.title = title;
+            this.bossBar.name(title);
+        }
+    }
+
+    synchronized void show(@NotNull Audience audience) {
+        if (!this.shown) {
+            audience.showBossBar(this.bossBar);
+            this.shown = true;
+        }
+    }
+
+    synchronized void hide(@NotNull Audience audience) {
+        audience.hideBossBar(this.bossBar);
+        this.shown = false;
+    }
+}
@@ -5,16 +5,13 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.api.folia.FoliaHelper;
 import com.github.sirblobman.api.folia.details.EntityTaskDetails;
 import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
@@ -23,26 +20,29 @@ import com.github.sirblobman.api.plugin.ConfigurablePlugin;
 import com.github.sirblobman.api.utility.Validate;
 import com.github.sirblobman.api.utility.VersionUtility;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
 import com.github.sirblobman.combatlogx.api.object.TimerUpdater;
+import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderTemplate;
+import com.github.sirblobman.combatlogx.api.utility.TimerStepHelper;
 import com.github.sirblobman.api.shaded.adventure.audience.Audience;
-import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar;
 import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar.Color;
 import com.github.sirblobman.api.shaded.adventure.bossbar.BossBar.Overlay;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
-import com.github.sirblobman.api.shaded.adventure.text.TextComponent;
-import com.github.sirblobman.api.shaded.adventure.text.TextReplacementConfig;
-import com.github.sirblobman.api.shaded.adventure.text.format.TextColor;
 
 public final class BossBarUpdater implements TimerUpdater {
     private final BossBarExpansion expansion;
-    private final Map<UUID, BossBar> bossBarMap;
+    private final Map<UUID, BossBarState> bossBarMap;
+    private final Map<UUID, Long> granularityMap;
 
     public BossBarUpdater(BossBarExpansion expansion) {
         this.expansion = Validate.notNull(expansion, "expansion must not be null!");
         this.bossBarMap = new ConcurrentHashMap<>();
+        this.granularityMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -59,17 +59,14 @@ public final class BossBarUpdater implements TimerUpdater {
         }
 
         float progress = getProgress(player, timeLeftMillis);
-        BossBar.Color color = getBossBarColor();
-        BossBar.Overlay overlay = getBossBarOverlay();
+        Color color = getBossBarColor();
+        Overlay overlay = getBossBarOverlay();
 
-        BossBar bossBar = getBossBar(player, true);
-        bossBar.progress(progress);
-        bossBar.color(color);
-        bossBar.overlay(overlay);
-        bossBar.name(title);
+        BossBarState bossBar = getBossBar(player, true);
+        bossBar.update(title, progress, color, overlay);
 
         Audience audience = getAudience(player);
-        audience.showBossBar(bossBar);
+        bossBar.show(audience);
     }
 
     @Override
@@ -95,6 +92,26 @@ public final class BossBarUpdater implements TimerUpdater {
         });
     }
 
+    @Override
+    public long getDisplayStep(@NotNull Player player, long timeLeftMillis) {
+        BossBarConfiguration configuration = getConfiguration();
+        long scale = configuration.getScale();
+        if (scale <= 0L) {
+            return -1L;
+        }
+
+        UUID playerId = player.getUniqueId();
+        Long granularity = this.granularityMap.get(playerId);
+        if (granularity == null) {
+            return -1L;
+        }
+
+        long timeStep = TimerStepHelper.getTimeStep(granularity, timeLeftMillis);
+        long timerMaxMillis = getTimerMaxMillis(player);
+        long barStep = TimerStepHelper.getBarStep(timeLeftMillis, timerMaxMillis, scale);
+        return TimerStepHelper.combine(timeStep, barStep, scale);
+    }
+
     private BossBarExpansion getExpansion() {
         return this.expansion;
     }
@@ -109,9 +126,9 @@ public final class BossBarUpdater implements TimerUpdater {
         return combatLogX.getLanguageManager();
     }
 
-    private PlayerDataManager getPlayerDataManager() {
+    private IPlayerStateManager getPlayerStateManager() {
         ICombatLogX combatLogX = getCombatLogX();
-        return combatLogX.getPlayerDataManager();
+        return combatLogX.getPlayerStateManager();
     }
 
     private ICombatManager getCombatManager() {
@@ -126,29 +143,25 @@ public final class BossBarUpdater implements TimerUpdater {
 
     private boolean isDisabled(Player player) {
         if (isGlobalEnabled()) {
-            PlayerDataManager playerDataManager = getPlayerDataManager();
-            YamlConfiguration playerData = playerDataManager.get(player);
-            return !playerData.getBoolean("bossbar", true);
+            IPlayerStateManager playerStateManager = getPlayerStateManager();
+            CombatPlayerState state = playerStateManager.getState(player);
+            return !state.isBossBarEnabled();
         }
 
         return true;
     }
 
     @Contract("_, true -> !null")
-    private BossBar getBossBar(Player player, boolean create) {
+    private BossBarState getBossBar(Player player, boolean create) {
         UUID playerId = player.getUniqueId();
-        if (this.bossBarMap.containsKey(playerId)) {
-            return this.bossBarMap.get(playerId);
-        }
-
         if (create) {
-            Component defaultTitle = Component.text("Default Title");
-            BossBar defaultBossBar = BossBar.bossBar(defaultTitle, 1.0F, Color.PURPLE, Overlay.PROGRESS);
-            this.bossBarMap.put(playerId, defaultBossBar);
-            return defaultBossBar;
+            return this.bossBarMap.computeIfAbsent(playerId, key -> {
+                Component defaultTitle = Component.text("Default Title");
+                return new BossBarState(defaultTitle, 1.0F, Color.PURPLE, Overlay.PROGRESS);
+            });
         }
 
-        return null;
+        return this.bossBarMap.get(playerId);
     }
 
     private Audience getAudience(Player player) {
@@ -157,16 +170,17 @@ public final class BossBarUpdater implements TimerUpdater {
     }
 
     private void actualRemove(Player player) {
-        BossBar bossBar = getBossBar(player, false);
+        BossBarState bossBar = getBossBar(player, false);
         if (bossBar == null) {
             return;
         }
 
         Audience audience = getAudience(player);
-        audience.hideBossBar(bossBar);
+        bossBar.hide(audience);
 
         UUID playerId = player.getUniqueId();
         this.bossBarMap.remove(playerId);
+        this.granularityMap.remove(playerId);
     }
 
     private Color getBossBarColor() {
@@ -189,10 +203,19 @@ public final class BossBarUpdater implements TimerUpdater {
         return configuration.getBossBarStyle();
     }
 
-    private float getProgress(Player player, float timeLeftMillis) {
-        ICombatManager combatManager = getCombatManager();
-        long timerMaxSeconds = combatManager.getMaxTimerSeconds(player);
-        float timerMaxMillis = TimeUnit.SECONDS.toMillis(timerMaxSeconds);
+    /**
+     * With adaptive timer updates, the progress moves in the same steps as the {bars} placeholder.
+     */
+    private float getProgress(Player player, long timeLeftMillis) {
+        BossBarConfiguration configuration = getConfiguration();
+        long scale = configuration.getScale();
+        if (isAdaptive() && scale > 0L) {
+            long timerMaxMillis = getTimerMaxMillis(player);
+            long barStep = TimerStepHelper.getBarStep(timeLeftMillis, timerMaxMillis, scale);
+            return ((float) barStep / scale);
+        }
+
+        float timerMaxMillis = getTimerMaxMillis(player);
 
         float barPercentage = (timeLeftMillis / timerMaxMillis);
         if (barPercentage <= 0.0F) {
@@ -212,79 +235,52 @@ public final class BossBarUpdater implements TimerUpdater {
         ICombatLogX combatLogX = getCombatLogX();
         ICombatManager combatManager = combatLogX.getCombatManager();
         IPlaceholderManager placeholderManager = combatLogX.getPlaceholderManager();
-        Component message = languageManager.getMessage(player, "expansion.boss-bar.timer");
-
-        TextReplacementConfig replacementConfig = getBarsReplacement(player, timeLeftMillis);
-        message = message.replaceText(replacementConfig);
+        Component timerMessage = languageManager.getMessage(player, "expansion.boss-bar.timer");
+        PlaceholderTemplate template = placeholderManager.getTemplate(timerMessage);
+        long granularity = TimerStepHelper.getTemplateGranularity(template);
+        UUID playerId = player.getUniqueId();
+        this.granularityMap.put(playerId, granularity);
 
         TagInformation tagInformation = combatManager.getTagInformation(player);
-        if (tagInformation != null) {
-            List<Entity> enemyList = tagInformation.getEnemies();
-            Pattern placeholderPattern = Pattern.compile("\\{(\\S+)}");
-            TextReplacementConfig.Builder builder = TextReplacementConfig.builder();
-            builder.match(placeholderPattern);
-            builder.replacement((matchResult, builderCopy) -> {
-                String placeholder = matchResult.group(1);
-                Component replacement = placeholderManager.getPlaceholderReplacementComponent(player,
-                        enemyList, placeholder);
-                return (replacement == null ? Component.text(placeholder) : replacement);
-            });
-
-            TextReplacementConfig replacement = builder.build();
-            message = message.replaceText(replacement);
-        }
-
-        return message;
-    }
+        List<Entity> enemyList = (tagInformation == null ? null : tagInformation.getEnemies());
+        return template.render(placeholder -> {
+            if (placeholder.equals("bars")) {
+                return getBars(player, timeLeftMillis);
+            }
 
-    private TextReplacementConfig getBarsReplacement(Player player, long timeLeftMillis) {
-        TextReplacementConfig.Builder builder = TextReplacementConfig.builder();
-        builder.matchLiteral("{bars}");
-        builder.replacement(getBars(player, timeLeftMillis));
-        return builder.build();
-    }
+            if (enemyList == null) {
+                return null;
+            }
 
-    private BossBarConfiguration getConfiguration() {
-        BossBarExpansion expansion = getExpansion();
-        return expansion.getConfiguration();
+            Component replacement = placeholderManager.getPlaceholderReplacementComponent(player, enemyList,
+                    placeholder);
+            return (replacement == null ? Component.text(placeholder) : replacement);
+        });
     }
 
     private Component getBars(Player player, long timeLeftMillis) {
         BossBarConfiguration configuration = getConfiguration();
         long scale = configuration.getScale();
-        String leftSymbol = configuration.getLeftSymbol();
-        String rightSymbol = configuration.getRightSymbol();
-        TextColor leftColor = configuration.getLeftColor();
-        TextColor rightColor = configuration.getRightColor();
-
-        ICombatLogX plugin = getCombatLogX();
-        ICombatManager combatManager = plugin.getCombatManager();
-        long timerMaxSeconds = combatManager.getMaxTimerSeconds(player);
-
-        double timerMaxMillis = TimeUnit.SECONDS.toMillis(timerMaxSeconds);
-        double scaleDouble = (double) scale;
-        double timeLeftMillisDouble = (double) timeLeftMillis;
 
-        double percent = clamp(timeLeftMillisDouble / timerMaxMillis);
-        long leftBarsCount = Math.round(scaleDouble * percent);
-        long rightBarsCount = (scale - leftBarsCount);
-
-        TextComponent.Builder builder = Component.text();
-        Component leftSymbolComponent = Component.text(leftSymbol, leftColor);
-        Component rightSymbolComponent = Component.text(rightSymbol, rightColor);
-
-        for (long i = 0; i < leftBarsCount; i++) {
-            builder.append(leftSymbolComponent);
-        }
+        long timerMaxMillis = getTimerMaxMillis(player);
+        long leftBarsCount = TimerStepHelper.getBarStep(timeLeftMillis, timerMaxMillis, scale);
+        return configuration.getBars(leftBarsCount);
+    }
 
-        for (long i = 0; i < rightBarsCount; i++) {
-            builder.append(rightSymbolComponent);
-        }
+    private long getTimerMaxMillis(Player player) {
+        ICombatManager combatManager = getCombatManager();
+        long timerMaxSeconds = combatManager.getMaxTimerSeconds(player);
+        return TimeUnit.SECONDS.toMillis(timerMaxSeconds);
+    }
 
-        return builder.build();
+    private boolean isAdaptive() {
+        ICombatLogX combatLogX = getCombatLogX();
+        MainConfiguration configuration = combatLogX.getConfiguration();
+        return configuration.isAdaptiveTimerUpdates();
     }
 
-    private double clamp(double value) {
-        return Math.max(0.0D, Math.min(value, 1.0D));
+    private BossBarConfiguration getConfiguration() {
+        BossBarExpansion expansion = getExpansion();
+        return expansion.getConfiguration();
     }
 }
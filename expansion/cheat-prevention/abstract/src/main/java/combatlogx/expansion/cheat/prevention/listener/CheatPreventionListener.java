@@ -1,6 +1,5 @@
 package combatlogx.expansion.cheat.prevention.listener;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -12,19 +11,22 @@ import org.bukkit.entity.Player;
 
 import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.api.language.replacer.Replacer;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionListener;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
 
 import combatlogx.expansion.cheat.prevention.ICheatPreventionExpansion;
 import combatlogx.expansion.cheat.prevention.configuration.IConfiguration;
 
 public abstract class CheatPreventionListener extends ExpansionListener {
     private final ICheatPreventionExpansion expansion;
-    private final Map<UUID, Map<String, Long>> messageCooldownMap;
+    private final Map<String, CooldownKey> messageCooldownKeyMap;
 
     public CheatPreventionListener(@NotNull ICheatPreventionExpansion expansion) {
         super(expansion.getExpansion());
         this.expansion = expansion;
-        this.messageCooldownMap = new ConcurrentHashMap<>();
+        this.messageCooldownKeyMap = new ConcurrentHashMap<>();
     }
 
     protected final @NotNull ICheatPreventionExpansion getCheatPrevention() {
@@ -48,26 +50,46 @@ public abstract class CheatPreventionListener extends ExpansionListener {
         sendMessageIgnoreCooldown(player, key, replacer);
     }
 
-    private long getNewMessageCooldownExpireTime() {
+    protected final @NotNull ICooldownManager getCooldownManager() {
+        ICombatLogX plugin = getCombatLogX();
+        return plugin.getCooldownManager();
+    }
+
+    private long getMessageCooldownMillis() {
         ICheatPreventionExpansion cheatPrevention = getCheatPrevention();
         IConfiguration configuration = cheatPrevention.getConfiguration();
         long cooldownSeconds = configuration.getMessageCooldown();
+        return TimeUnit.SECONDS.toMillis(cooldownSeconds);
+    }
 
-        long cooldownMillis = TimeUnit.SECONDS.toMillis(cooldownSeconds);
-        long systemMillis = System.currentTimeMillis();
-        return (systemMillis + cooldownMillis);
+    /**
+     * Each message key is only resolved once, later checks reuse the cooldown key from the map.
+     */
+    private @NotNull CooldownKey getMessageCooldownKey(@NotNull String key) {
+        CooldownKey cooldownKey = this.messageCooldownKeyMap.get(key);
+        if (cooldownKey != null) {
+            return cooldownKey;
+        }
+
+        ICooldownManager cooldownManager = getCooldownManager();
+        cooldownKey = cooldownManager.getKey("cheat-prevention:message:" + key);
+        this.messageCooldownKeyMap.put(key, cooldownKey);
+        return cooldownKey;
     }
 
     private long getCooldownExpireTime(Player player, String key) {
         UUID playerId = player.getUniqueId();
-        Map<String, Long> expireTimeMap = this.messageCooldownMap.getOrDefault(playerId, new HashMap<>());
-        return expireTimeMap.getOrDefault(key, 0L);
+        CooldownKey cooldownKey = getMessageCooldownKey(key);
+        ICooldownManager cooldownManager = getCooldownManager();
+        return cooldownManager.getExpireMillis(playerId, cooldownKey);
     }
 
     private void addMessageCooldown(Player player, String key) {
         UUID playerId = player.getUniqueId();
-        Map<String, Long> expireTimeMap = this.messageCooldownMap.getOrDefault(playerId, new HashMap<>());
-        expireTimeMap.put(key, getNewMessageCooldownExpireTime());
-        this.messageCooldownMap.put(playerId, expireTimeMap);
+        CooldownKey cooldownKey = getMessageCooldownKey(key);
+        long cooldownMillis = getMessageCooldownMillis();
+
+        ICooldownManager cooldownManager = getCooldownManager();
+        cooldownManager.addCooldown(playerId, cooldownKey, cooldownMillis);
     }
 }
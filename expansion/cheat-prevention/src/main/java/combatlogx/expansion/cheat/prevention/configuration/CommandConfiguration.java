@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -19,6 +18,8 @@ public final class CommandConfiguration implements ICommandConfiguration {
     private int delayAfterCombat;
     private String bypassPermissionName;
     private transient Permission bypassPermission;
+    private transient CommandMatcher blockedCommandMatcher;
+    private transient CommandMatcher allowedCommandMatcher;
 
     public CommandConfiguration() {
         this.delayAfterCombat = 0;
@@ -26,6 +27,8 @@ public final class CommandConfiguration implements ICommandConfiguration {
         this.allowedCommandList = new ArrayList<>();
         this.bypassPermissionName = null;
         this.bypassPermission = null;
+        this.blockedCommandMatcher = null;
+        this.allowedCommandMatcher = null;
     }
 
     @Override
@@ -77,29 +80,17 @@ public final class CommandConfiguration implements ICommandConfiguration {
     public void setAllowedCommands(@NotNull Collection<String> commands) {
         this.allowedCommandList.clear();
         this.allowedCommandList.addAll(commands);
+        this.allowedCommandMatcher = CommandMatcher.compile(this.allowedCommandList, false);
     }
 
     @Override
     public boolean isAllowed(@NotNull String command) {
-        List<String> allowedCommandList = getAllowedCommands();
-        if (allowedCommandList.contains("*")) {
-            return true;
+        CommandMatcher allowedCommandMatcher = this.allowedCommandMatcher;
+        if (allowedCommandMatcher == null) {
+            return false;
         }
 
-        String commandLowercase = command.toLowerCase(Locale.US);
-        for (String allowedCommand : allowedCommandList) {
-            String allowedCommandLowercase = allowedCommand.toLowerCase(Locale.US);
-            if (commandLowercase.equals(allowedCommandLowercase)) {
-                return true;
-            }
-
-            String withSpace = (allowedCommand + " ");
-            if (commandLowercase.startsWith(withSpace)) {
-                return true;
-            }
-        }
-
-        return false;
+        return allowedCommandMatcher.matches(command);
     }
 
     public @NotNull List<String> getBlockedCommands() {
@@ -109,28 +100,16 @@ public final class CommandConfiguration implements ICommandConfiguration {
     public void setBlockedCommands(@NotNull Collection<String> commands) {
         this.blockedCommandList.clear();
         this.blockedCommandList.addAll(commands);
+        this.blockedCommandMatcher = CommandMatcher.compile(this.blockedCommandList, true);
     }
 
     @Override
     public boolean isBlocked(@NotNull String command) {
-        List<String> blockedCommandList = getBlockedCommands();
-        if (blockedCommandList.contains("*")) {
-            return true;
-        }
-
-        String commandLowercase = command.toLowerCase(Locale.US);
-        for (String blockedCommand : blockedCommandList) {
-            String blockedCommandLowercase = blockedCommand.toLowerCase(Locale.US);
-            if (commandLowercase.equals(blockedCommandLowercase)) {
-                return true;
-            }
-
-            String withSpace = (blockedCommand + " ");
-            if (commandLowercase.startsWith(withSpace)) {
-                return true;
-            }
+        CommandMatcher blockedCommandMatcher = this.blockedCommandMatcher;
+        if (blockedCommandMatcher == null) {
+            return false;
         }
 
-        return false;
+        return blockedCommandMatcher.matches(command);
     }
 }
@@ -0,0 +1,136 @@
+package combatlogx.expansion.cheat.prevention.configuration;
+
+import java.util.Collection;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A case-insensitive trie for a list of commands, compiled when the configuration is loaded.
+ * Matching walks the command once, so the time does not depend on the amount of configured commands.
+ * <ul>
+ *   <li>{@code *} matches every command.</li>
+ *   <li>{@code /tp} matches {@code /tp} and {@code /tp <arguments>}, but not {@code /tpa}.</li>
+ *   <li>{@code /tp*} matches every command that starts with {@code /tp}.</li>
+ *   <li>{@code /plugin:tp} only matches the namespaced command.</li>
+ *   <li>{@code /tp} also matches {@code /<any plugin>:tp}, but only if the matcher was compiled to match namespaces.
+ *   The allowed command list does not, so allowing {@code /msg} does not allow every plugin command named msg.</li>
+ * </ul>
+ */
+final class CommandMatcher {
+    private final CommandMatcherNode root;
+    private final boolean matchAll;
+    private final boolean matchNamespaces;
+
+    private CommandMatcher(@NotNull CommandMatcherNode root, boolean matchAll, boolean matchNamespaces) {
+        this.root = root;
+        this.matchAll = matchAll;
+        this.matchNamespaces = matchNamespaces;
+    }
+
+    /**
+     * @param commandList     The configured commands.
+     * @param matchNamespaces {@code true} to also match {@code /<any plugin>:command} for {@code /command}.
+     */
+    static @NotNull CommandMatcher compile(@NotNull Collection<String> commandList, boolean matchNamespaces) {
+        CommandMatcherNode root = new CommandMatcherNode();
+        boolean matchAll = false;
+
+        for (String command : commandList) {
+            if (command.equals("*")) {
+                matchAll = true;
+                continue;
+            }
+
+            boolean wildcard = command.endsWith("*");
+            int length = (wildcard ? command.length() - 1 : command.length());
+            if (length == 0) {
+                continue;
+            }
+
+            CommandMatcherNode node = root;
+            for (int i = 0; i < length; i++) {
+                char character = Character.toLowerCase(command.charAt(i));
+                node = node.getOrCreateChild(character);
+            }
+
+            if (wildcard) {
+                node.setWildcard(true);
+            } else {
+                node.setCommand(true);
+            }
+        }
+
+        return new CommandMatcher(root, matchAll, matchNamespaces);
+    }
+
+    /**
+     * @param command The command that was executed, including the slash.
+     * @return {@code true} if the command matches any of the configured commands.
+     */
+    boolean matches(@NotNull String command) {
+        if (this.matchAll) {
+            return true;
+        }
+
+        if (matches(command, 0)) {
+            return true;
+        }
+
+        if (!this.matchNamespaces) {
+            return false;
+        }
+
+        // Check '/plugin:command' again as '/command', the namespace is skipped while walking.
+        int namespaceIndex = getNamespaceIndex(command);
+        return (namespaceIndex != -1 && matches(command, namespaceIndex));
+    }
+
+    /**
+     * @param namespaceIndex The index of the namespace separator, or {@code 0} for no namespace.
+     *                       Characters after the slash up to this index are skipped.
+     */
+    private boolean matches(@NotNull String command, int namespaceIndex) {
+        CommandMatcherNode node = this.root;
+        int length = command.length();
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && i <= namespaceIndex) {
+                continue;
+            }
+
+            if (node.isWildcard()) {
+                return true;
+            }
+
+            char character = Character.toLowerCase(command.charAt(i));
+            if (character == ' ' && node.isCommand()) {
+                return true;
+            }
+
+            node = node.getChild(character);
+            if (node == null) {
+                return false;
+            }
+        }
+
+        return (node.isCommand() || node.isWildcard());
+    }
+
+    /**
+     * @return The index of the namespace separator in the first word of the command, or {@code -1}.
+     */
+    private int getNamespaceIndex(@NotNull String command) {
+        int length = command.length();
+        for (int i = 1; i < length; i++) {
+            char character = command.charAt(i);
+            if (character == ' ') {
+                return -1;
+            }
+
+            if (character == ':') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,54 @@
+package combatlogx.expansion.cheat.prevention.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A single character in a {@link CommandMatcher} trie.
+ */
+final class CommandMatcherNode {
+    private final Map<Character, CommandMatcherNode> childMap;
+    private boolean command;
+    private boolean wildcard;
+
+    CommandMatcherNode() {
+        this.childMap = new HashMap<>();
+        this.command = false;
+        this.wildcard = false;
+    }
+
+    @Nullable CommandMatcherNode getChild(char character) {
+        return this.childMap.get(character);
+    }
+
+    @NotNull CommandMatcherNode getOrCreateChild(char character) {
+        return this.childMap.computeIfAbsent(character, key -> new CommandMatcherNode());
+    }
+
+    /**
+     * @return {@code true} if a configured command ends at this node.
+     * A command matches itself and the same command with any arguments.
+     */
+    boolean isCommand() {
+        return this.command;
+    }
+
+    void setCommand(boolean command) {
+        this.command = command;
+    }
+
+    /**
+     * @return {@code true} if a configured command with a trailing {@code *} ends at this node.
+     * A wildcard matches anything that starts with the characters before it.
+     */
+    boolean isWildcard() {
+        return this.wildcard;
+    }
+
+    void setWildcard(boolean wildcard) {
+        this.wildcard = wildcard;
+    }
+}
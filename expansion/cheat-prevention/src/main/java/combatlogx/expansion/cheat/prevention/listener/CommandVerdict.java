@@ -0,0 +1,24 @@
+package combatlogx.expansion.cheat.prevention.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The result of the LOWEST priority command check, reused by the HIGH priority check for the same message.
+ */
+final class CommandVerdict {
+    private final String command;
+    private final boolean blocked;
+
+    CommandVerdict(@NotNull String command, boolean blocked) {
+        this.command = command;
+        this.blocked = blocked;
+    }
+
+    @NotNull String getCommand() {
+        return this.command;
+    }
+
+    boolean isBlocked() {
+        return this.blocked;
+    }
+}
@@ -1,8 +1,8 @@
 package combatlogx.expansion.cheat.prevention.listener;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.NotNull;
@@ -11,32 +11,48 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.permissions.Permission;
 
 import com.github.sirblobman.api.language.replacer.Replacer;
 import com.github.sirblobman.api.language.replacer.StringReplacer;
 import com.github.sirblobman.combatlogx.api.event.PlayerUntagEvent;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
 import com.github.sirblobman.combatlogx.api.object.UntagReason;
 
 import combatlogx.expansion.cheat.prevention.ICheatPreventionExpansion;
 import combatlogx.expansion.cheat.prevention.configuration.ICommandConfiguration;
 
 public final class ListenerCommands extends CheatPreventionListener {
-    private final Map<UUID, Long> cooldownMap;
+    private final CooldownKey cooldownKey;
+    private final Map<UUID, CommandVerdict> verdictMap;
 
     public ListenerCommands(@NotNull ICheatPreventionExpansion expansion) {
         super(expansion);
-        this.cooldownMap = new HashMap<>();
+        // The delay after combat is kept on quit, so it can not be skipped by logging out.
+        this.cooldownKey = getCooldownManager().getKey("cheat-prevention:command-delay", true);
+        this.verdictMap = new ConcurrentHashMap<>();
     }
 
     @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
     public void beforeCommandLowest(PlayerCommandPreprocessEvent e) {
-        checkEvent(e);
+        Player player = e.getPlayer();
+        UUID playerId = player.getUniqueId();
+        this.verdictMap.remove(playerId);
+        checkEvent(e, true);
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void beforeCommandHigh(PlayerCommandPreprocessEvent e) {
-        checkEvent(e);
+        checkEvent(e, false);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        Player player = e.getPlayer();
+        UUID playerId = player.getUniqueId();
+        this.verdictMap.remove(playerId);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -65,35 +81,24 @@ public final class ListenerCommands extends CheatPreventionListener {
         return player.hasPermission(bypassPermission);
     }
 
-    private long getNewExpireTime() {
+    private long getCooldownMillis() {
         ICommandConfiguration commandConfiguration = getCommandConfiguration();
         long cooldownSeconds = commandConfiguration.getDelayAfterCombat();
-        long cooldownMillis = TimeUnit.SECONDS.toMillis(cooldownSeconds);
-
-        long systemMillis = System.currentTimeMillis();
-        return (systemMillis + cooldownMillis);
+        return TimeUnit.SECONDS.toMillis(cooldownSeconds);
     }
 
     private boolean isInCooldown(Player player) {
-        UUID uuid = player.getUniqueId();
-        if (this.cooldownMap.containsKey(uuid)) {
-            long expireMillis = this.cooldownMap.get(uuid);
-            long systemMillis = System.currentTimeMillis();
-            if (systemMillis < expireMillis) {
-                return true;
-            }
-
-            this.cooldownMap.remove(uuid);
-            return false;
-        }
-
-        return false;
+        UUID playerId = player.getUniqueId();
+        ICooldownManager cooldownManager = getCooldownManager();
+        return cooldownManager.hasCooldown(playerId, this.cooldownKey);
     }
 
     private void addCooldown(Player player) {
         UUID playerId = player.getUniqueId();
-        long expireMillis = getNewExpireTime();
-        this.cooldownMap.put(playerId, expireMillis);
+        long cooldownMillis = getCooldownMillis();
+
+        ICooldownManager cooldownManager = getCooldownManager();
+        cooldownManager.addCooldown(playerId, this.cooldownKey, cooldownMillis);
     }
 
     private String fixCommand(String command) {
@@ -114,7 +119,28 @@ public final class ListenerCommands extends CheatPreventionListener {
         return commandConfiguration.isAllowed(command);
     }
 
-    private void checkEvent(PlayerCommandPreprocessEvent e) {
+    /**
+     * The HIGH priority check only has to match the command again if another plugin changed it after LOWEST.
+     */
+    private boolean isBlockedCommand(Player player, String command, boolean lowest) {
+        UUID playerId = player.getUniqueId();
+        if (!lowest) {
+            CommandVerdict verdict = this.verdictMap.remove(playerId);
+            if (verdict != null && command.equals(verdict.getCommand())) {
+                return verdict.isBlocked();
+            }
+        }
+
+        boolean blocked = (!isAllowed(command) && isBlocked(command));
+        if (lowest) {
+            CommandVerdict verdict = new CommandVerdict(command, blocked);
+            this.verdictMap.put(playerId, verdict);
+        }
+
+        return blocked;
+    }
+
+    private void checkEvent(PlayerCommandPreprocessEvent e, boolean lowest) {
         Player player = e.getPlayer();
         if (!isInCombat(player) && !isInCooldown(player)) {
             return;
@@ -126,10 +152,16 @@ public final class ListenerCommands extends CheatPreventionListener {
 
         String command = e.getMessage();
         String realCommand = fixCommand(command);
-        if (isAllowed(realCommand) || !isBlocked(realCommand)) {
+        if (!isBlockedCommand(player, realCommand, lowest)) {
             return;
         }
 
+        // A cancelled event never reaches the HIGH check, so its verdict would not be removed.
+        if (lowest) {
+            UUID playerId = player.getUniqueId();
+            this.verdictMap.remove(playerId);
+        }
+
         e.setCancelled(true);
         Replacer replacer = new StringReplacer("{command}", realCommand);
         sendMessageIgnoreCooldown(player, "expansion.cheat-prevention.command-blocked", replacer);
@@ -28,6 +28,7 @@ import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.api.nms.EntityHandler;
 import com.github.sirblobman.api.nms.MultiVersionHandler;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
 
 import combatlogx.expansion.compatibility.citizens.CitizensExpansion;
 import combatlogx.expansion.compatibility.citizens.configuration.CitizensConfiguration;
@@ -78,8 +79,8 @@ public final class CombatNpcManager {
 
     public void saveData(@NotNull OfflinePlayer player) {
         ICombatLogX plugin = getCombatLogX();
-        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
-        playerDataManager.save(player);
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
+        playerStateManager.savePlayerData(player);
     }
 
     public void remove(@NotNull CombatNPC combatNPC) {
@@ -198,6 +199,7 @@ public final class CombatNpcManager {
         }
 
         saveLocation(player, npc);
+        saveData(player);
         printDebug("Saving last location if configured.");
 
         saveInventory(player);
@@ -240,14 +242,12 @@ public final class CombatNpcManager {
         double health = getHealth(npc);
         YamlConfiguration data = getData(owner);
         data.set("citizens-compatibility.health", health);
-        saveData(owner);
     }
 
     private void saveLocation(@NotNull OfflinePlayer owner, @NotNull NPC npc) {
         Location location = getLocation(npc);
         YamlConfiguration data = getData(owner);
         data.set("citizens-compatibility.location", location);
-        saveData(owner);
     }
 
     public void saveInventory(@NotNull Player player) {
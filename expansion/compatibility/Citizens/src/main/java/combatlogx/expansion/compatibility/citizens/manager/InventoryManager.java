@@ -26,6 +26,7 @@ import com.github.sirblobman.api.utility.Validate;
 import com.github.sirblobman.api.utility.VersionUtility;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.event.NPCDropItemEvent;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
 import com.github.sirblobman.combatlogx.api.object.CitizensSlotType;
 
 import combatlogx.expansion.compatibility.citizens.CitizensExpansion;
@@ -59,7 +60,7 @@ public final class InventoryManager {
 
         CitizensExpansion expansion = getExpansion();
         storedInventory.save(expansion, section);
-        playerDataManager.save(player);
+        savePlayerData(player);
     }
 
     public @Nullable StoredInventory getStoredInventory(@NotNull OfflinePlayer player) {
@@ -89,7 +90,7 @@ public final class InventoryManager {
         String storagePath = ("citizens-compatibility.stored-inventory");
 
         configuration.set(storagePath, null);
-        playerDataManager.save(player);
+        savePlayerData(player);
     }
 
     public void restoreInventory(@NotNull Player player) {
@@ -212,6 +213,12 @@ public final class InventoryManager {
         return plugin.getPlayerDataManager();
     }
 
+    private void savePlayerData(@NotNull OfflinePlayer player) {
+        ICombatLogX plugin = getICombatLogX();
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
+        playerStateManager.savePlayerData(player);
+    }
+
     @SuppressWarnings("deprecation")
     private void restoreHandsLegacy(@NotNull StoredInventory storedInventory, @NotNull PlayerInventory inventory) {
         ItemStack item = storedInventory.getMainHandItem();
@@ -6,6 +6,8 @@ import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.expansion.region.RegionExpansion;
 import com.github.sirblobman.combatlogx.api.expansion.region.RegionHandler;
 
+import combatlogx.expansion.compatibility.region.grief.prevention.listener.ListenerClaimChange;
+
 public final class GriefPreventionExpansion extends RegionExpansion {
     private RegionHandler<?> regionHandler;
 
@@ -19,6 +21,11 @@ public final class GriefPreventionExpansion extends RegionExpansion {
         return checkDependency("GriefPrevention", true);
     }
 
+    @Override
+    public void afterEnable() {
+        new ListenerClaimChange(this).register();
+    }
+
     @Override
     public @NotNull RegionHandler<?> getRegionHandler() {
         if (this.regionHandler == null) {
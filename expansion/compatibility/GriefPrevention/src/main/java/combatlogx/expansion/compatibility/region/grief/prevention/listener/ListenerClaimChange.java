@@ -0,0 +1,43 @@
+package combatlogx.expansion.compatibility.region.grief.prevention.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+
+import com.github.sirblobman.combatlogx.api.expansion.ExpansionListener;
+import com.github.sirblobman.combatlogx.api.expansion.region.RegionHandler;
+
+import combatlogx.expansion.compatibility.region.grief.prevention.GriefPreventionExpansion;
+import me.ryanhamshire.GriefPrevention.events.ClaimCreatedEvent;
+import me.ryanhamshire.GriefPrevention.events.ClaimDeletedEvent;
+import me.ryanhamshire.GriefPrevention.events.ClaimResizeEvent;
+
+public final class ListenerClaimChange extends ExpansionListener {
+    private final GriefPreventionExpansion expansion;
+
+    public ListenerClaimChange(@NotNull GriefPreventionExpansion expansion) {
+        super(expansion);
+        this.expansion = expansion;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCreate(ClaimCreatedEvent e) {
+        invalidateSafeZones();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDelete(ClaimDeletedEvent e) {
+        invalidateSafeZones();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onResize(ClaimResizeEvent e) {
+        invalidateSafeZones();
+    }
+
+    private void invalidateSafeZones() {
+        RegionHandler<?> regionHandler = this.expansion.getRegionHandler();
+        regionHandler.invalidateSafeZoneCache();
+    }
+}
@@ -1,14 +1,30 @@
 package combatlogx.expansion.compatibility.luckperms;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jetbrains.annotations.NotNull;
+
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.expansion.Expansion;
 
 import combatlogx.expansion.compatibility.luckperms.context.ContextInCombat;
+import combatlogx.expansion.compatibility.luckperms.context.PlayerStatusContext;
 import combatlogx.expansion.compatibility.luckperms.hook.HookNewbieHelper;
+import combatlogx.expansion.compatibility.luckperms.listener.ListenerContextUpdate;
+import combatlogx.expansion.compatibility.luckperms.listener.ListenerUserRecalculate;
 
 public final class LuckPermsExpansion extends Expansion {
+    private final ListenerUserRecalculate listenerUserRecalculate;
+    private final ContextInCombat contextInCombat;
+    private final List<PlayerStatusContext> contextList;
+
     public LuckPermsExpansion(ICombatLogX plugin) {
         super(plugin);
+        this.listenerUserRecalculate = new ListenerUserRecalculate(this);
+        this.contextInCombat = new ContextInCombat(this);
+        this.contextList = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -24,11 +40,14 @@ public final class LuckPermsExpansion extends Expansion {
         }
 
         registerContexts();
+        this.listenerUserRecalculate.register();
+        new ListenerContextUpdate(this).register();
     }
 
     @Override
     public void onDisable() {
-        // Do Nothing
+        this.listenerUserRecalculate.unregister();
+        unregisterContexts();
     }
 
     @Override
@@ -36,8 +55,33 @@ public final class LuckPermsExpansion extends Expansion {
         // Do Nothing
     }
 
+    public @NotNull ContextInCombat getContextInCombat() {
+        return this.contextInCombat;
+    }
+
+    public @NotNull List<PlayerStatusContext> getContexts() {
+        return Collections.unmodifiableList(this.contextList);
+    }
+
+    /**
+     * Register a context in LuckPerms and fill its cache with the values of the online players.
+     */
+    public void registerContext(@NotNull PlayerStatusContext context) {
+        context.register();
+        context.updateAll();
+        this.contextList.add(context);
+    }
+
     private void registerContexts() {
-        new ContextInCombat(this).register();
+        registerContext(this.contextInCombat);
         HookNewbieHelper.registerContexts(this);
     }
+
+    private void unregisterContexts() {
+        for (PlayerStatusContext context : this.contextList) {
+            context.unregister();
+        }
+
+        this.contextList.clear();
+    }
 }
@@ -1,5 +1,7 @@
 package combatlogx.expansion.compatibility.luckperms.context;
 
+import org.jetbrains.annotations.NotNull;
+
 import com.github.sirblobman.api.utility.Validate;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 
@@ -25,9 +27,26 @@ public abstract class AbstractContext<T> implements ContextCalculator<T> {
         return expansion.getPlugin();
     }
 
-    public final void register() {
-        LuckPerms luckPerms = LuckPermsProvider.get();
-        ContextManager contextManager = luckPerms.getContextManager();
+    public void register() {
+        ContextManager contextManager = getContextManager();
         contextManager.registerCalculator(this);
     }
+
+    public void unregister() {
+        ContextManager contextManager = getContextManager();
+        contextManager.unregisterCalculator(this);
+    }
+
+    /**
+     * Tell LuckPerms that the contexts of a subject have changed, so they are calculated again.
+     */
+    protected final void signalUpdate(@NotNull T subject) {
+        ContextManager contextManager = getContextManager();
+        contextManager.signalContextUpdate(subject);
+    }
+
+    private @NotNull ContextManager getContextManager() {
+        LuckPerms luckPerms = LuckPermsProvider.get();
+        return luckPerms.getContextManager();
+    }
 }
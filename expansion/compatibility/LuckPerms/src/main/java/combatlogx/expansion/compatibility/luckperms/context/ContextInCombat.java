@@ -8,18 +8,21 @@ import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 
 import combatlogx.expansion.compatibility.luckperms.LuckPermsExpansion;
-import net.luckperms.api.context.ContextConsumer;
 
-public final class ContextInCombat extends AbstractContext<Player> {
+public final class ContextInCombat extends PlayerStatusContext {
     public ContextInCombat(LuckPermsExpansion expansion) {
         super(expansion);
     }
 
     @Override
-    public void calculate(@NotNull Player target, ContextConsumer consumer) {
+    protected @NotNull String getContextKey() {
+        return "combatlogx-in-combat";
+    }
+
+    @Override
+    protected boolean getCurrentValue(@NotNull Player player) {
         ICombatLogX combatLogX = getCombatLogX();
         ICombatManager combatManager = combatLogX.getCombatManager();
-        boolean combat = combatManager.isInCombat(target);
-        consumer.accept("combatlogx-in-combat", Boolean.toString(combat));
+        return combatManager.isInCombat(player);
     }
 }
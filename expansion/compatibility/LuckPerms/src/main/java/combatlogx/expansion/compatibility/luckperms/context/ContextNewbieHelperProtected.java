@@ -1,22 +1,36 @@
 package combatlogx.expansion.compatibility.luckperms.context;
 
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.jetbrains.annotations.NotNull;
 
 import org.bukkit.entity.Player;
 
+import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.api.utility.Validate;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
 
 import combatlogx.expansion.compatibility.luckperms.LuckPermsExpansion;
+import combatlogx.expansion.compatibility.luckperms.task.ProtectionExpireTask;
 import combatlogx.expansion.newbie.helper.NewbieHelperExpansion;
 import combatlogx.expansion.newbie.helper.manager.ProtectionManager;
-import net.luckperms.api.context.ContextConsumer;
+import combatlogx.expansion.newbie.helper.manager.StatusUpdater;
 
-public final class ContextNewbieHelperProtected extends AbstractContext<Player> {
+/**
+ * The protection of a player ends by time without any change from the newbie helper expansion,
+ * so an update is scheduled for the moment the protection expires.
+ * Only one of these updates is pending per player at a time.
+ */
+public final class ContextNewbieHelperProtected extends PlayerStatusContext implements StatusUpdater {
     private final NewbieHelperExpansion newbieHelper;
+    private final Set<UUID> pendingExpireSet;
 
     public ContextNewbieHelperProtected(LuckPermsExpansion expansion, NewbieHelperExpansion newbieHelper) {
         super(expansion);
         this.newbieHelper = Validate.notNull(newbieHelper, "newbieHelper must not be null!");
+        this.pendingExpireSet = ConcurrentHashMap.newKeySet();
     }
 
     private NewbieHelperExpansion getNewbieHelper() {
@@ -24,10 +38,81 @@ public final class ContextNewbieHelperProtected extends AbstractContext<Player>
     }
 
     @Override
-    public void calculate(@NotNull Player target, ContextConsumer consumer) {
+    public void register() {
+        super.register();
+        NewbieHelperExpansion newbieHelper = getNewbieHelper();
+        newbieHelper.addStatusUpdater(this);
+    }
+
+    @Override
+    public void unregister() {
+        NewbieHelperExpansion newbieHelper = getNewbieHelper();
+        newbieHelper.removeStatusUpdater(this);
+        super.unregister();
+        this.pendingExpireSet.clear();
+    }
+
+    @Override
+    protected @NotNull String getContextKey() {
+        return "newbie-helper-pvp-protected";
+    }
+
+    @Override
+    protected boolean getCurrentValue(@NotNull Player player) {
+        // ProtectionManager#isProtected is not used because it changes the state and sends a message on expiry.
+        long expireMillis = getExpireMillis(player);
+        long systemMillis = System.currentTimeMillis();
+        return (systemMillis < expireMillis);
+    }
+
+    @Override
+    public void update(@NotNull Player player) {
+        super.update(player);
+        if (getValue(player)) {
+            long expireMillis = getExpireMillis(player);
+            scheduleExpireUpdate(player, expireMillis);
+        }
+    }
+
+    @Override
+    public void remove(@NotNull Player player) {
+        super.remove(player);
+        UUID playerId = player.getUniqueId();
+        this.pendingExpireSet.remove(playerId);
+    }
+
+    /**
+     * Called by the scheduled expiry task, which can schedule the next one if the protection was extended.
+     */
+    public void onExpireTask(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        this.pendingExpireSet.remove(playerId);
+        if (player.isOnline()) {
+            update(player);
+        }
+    }
+
+    private long getExpireMillis(@NotNull Player player) {
         NewbieHelperExpansion newbieHelper = getNewbieHelper();
         ProtectionManager protectionManager = newbieHelper.getProtectionManager();
-        boolean isProtected = protectionManager.isProtected(target);
-        consumer.accept("newbie-helper-pvp-protected", Boolean.toString(isProtected));
+        return protectionManager.getProtectionExpireTime(player);
+    }
+
+    private void scheduleExpireUpdate(@NotNull Player player, long expireMillis) {
+        UUID playerId = player.getUniqueId();
+        if (!this.pendingExpireSet.add(playerId)) {
+            return;
+        }
+
+        long systemMillis = System.currentTimeMillis();
+        long delayMillis = (expireMillis - systemMillis);
+        long delayTicks = Math.max(1L, (delayMillis / 50L) + 1L);
+
+        ICombatLogX combatLogX = getCombatLogX();
+        ProtectionExpireTask task = new ProtectionExpireTask(combatLogX, player, this);
+        task.setDelay(delayTicks);
+
+        TaskScheduler scheduler = combatLogX.getFoliaHelper().getScheduler();
+        scheduler.scheduleEntityTask(task);
     }
 }
@@ -9,9 +9,9 @@ import com.github.sirblobman.api.utility.Validate;
 import combatlogx.expansion.compatibility.luckperms.LuckPermsExpansion;
 import combatlogx.expansion.newbie.helper.NewbieHelperExpansion;
 import combatlogx.expansion.newbie.helper.manager.PVPManager;
-import net.luckperms.api.context.ContextConsumer;
+import combatlogx.expansion.newbie.helper.manager.StatusUpdater;
 
-public final class ContextNewbieHelperPvpStatus extends AbstractContext<Player> {
+public final class ContextNewbieHelperPvpStatus extends PlayerStatusContext implements StatusUpdater {
     private final NewbieHelperExpansion newbieHelper;
 
     public ContextNewbieHelperPvpStatus(LuckPermsExpansion expansion, NewbieHelperExpansion newbieHelper) {
@@ -24,10 +24,28 @@ public final class ContextNewbieHelperPvpStatus extends AbstractContext<Player>
     }
 
     @Override
-    public void calculate(@NotNull Player target, ContextConsumer consumer) {
+    public void register() {
+        super.register();
+        NewbieHelperExpansion newbieHelper = getNewbieHelper();
+        newbieHelper.addStatusUpdater(this);
+    }
+
+    @Override
+    public void unregister() {
+        NewbieHelperExpansion newbieHelper = getNewbieHelper();
+        newbieHelper.removeStatusUpdater(this);
+        super.unregister();
+    }
+
+    @Override
+    protected @NotNull String getContextKey() {
+        return "newbie-helper-pvp-status";
+    }
+
+    @Override
+    protected boolean getCurrentValue(@NotNull Player player) {
         NewbieHelperExpansion newbieHelper = getNewbieHelper();
         PVPManager pvpManager = newbieHelper.getPVPManager();
-        boolean status = !pvpManager.isDisabled(target);
-        consumer.accept("newbie-helper-pvp-status", Boolean.toString(status));
+        return !pvpManager.isDisabled(player);
     }
 }
@@ -0,0 +1,104 @@
+package combatlogx.expansion.compatibility.luckperms.context;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import combatlogx.expansion.compatibility.luckperms.LuckPermsExpansion;
+import net.luckperms.api.context.ContextConsumer;
+
+/**
+ * A boolean context that is cached per player.
+ * LuckPerms can calculate contexts on any thread and very often, so {@link #calculate(Player, ContextConsumer)}
+ * only reads the cached value. The cached value is changed by listeners when the status of a player changes,
+ * and LuckPerms is only told to recalculate when the value is actually different.
+ */
+public abstract class PlayerStatusContext extends AbstractContext<Player> {
+    private final Map<UUID, Boolean> valueMap;
+    private volatile boolean registered;
+
+    public PlayerStatusContext(LuckPermsExpansion expansion) {
+        super(expansion);
+        this.valueMap = new ConcurrentHashMap<>();
+        this.registered = false;
+    }
+
+    /**
+     * @return The key of this context in LuckPerms.
+     */
+    protected abstract @NotNull String getContextKey();
+
+    /**
+     * Read the current value from the in-memory state of CombatLogX.
+     * This method must not do any I/O or change the state of the player.
+     */
+    protected abstract boolean getCurrentValue(@NotNull Player player);
+
+    @Override
+    public final void calculate(@NotNull Player target, @NotNull ContextConsumer consumer) {
+        boolean value = getValue(target);
+        String contextKey = getContextKey();
+        consumer.accept(contextKey, Boolean.toString(value));
+    }
+
+    @Override
+    public void register() {
+        super.register();
+        this.registered = true;
+    }
+
+    @Override
+    public void unregister() {
+        this.registered = false;
+        super.unregister();
+        this.valueMap.clear();
+    }
+
+    public final boolean getValue(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        Boolean value = this.valueMap.get(playerId);
+        return (value != null && value);
+    }
+
+    /**
+     * Change the cached value of a player and signal LuckPerms if it changed.
+     */
+    public final void setValue(@NotNull Player player, boolean value) {
+        if (!this.registered) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        Boolean oldValue = this.valueMap.put(playerId, value);
+        boolean changed = ((oldValue != null && oldValue) != value);
+        if (changed) {
+            signalUpdate(player);
+        }
+    }
+
+    /**
+     * Read the current value of a player again and signal LuckPerms if it changed.
+     */
+    public void update(@NotNull Player player) {
+        boolean value = getCurrentValue(player);
+        setValue(player, value);
+    }
+
+    public final void updateAll() {
+        Collection<? extends Player> onlinePlayerCollection = Bukkit.getOnlinePlayers();
+        for (Player player : onlinePlayerCollection) {
+            update(player);
+        }
+    }
+
+    public void remove(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        this.valueMap.remove(playerId);
+    }
+}
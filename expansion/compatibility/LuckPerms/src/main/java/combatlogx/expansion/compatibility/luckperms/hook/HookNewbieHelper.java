@@ -26,7 +26,7 @@ public final class HookNewbieHelper {
         }
 
         NewbieHelperExpansion newbieHelper = (NewbieHelperExpansion) expansion;
-        new ContextNewbieHelperProtected(instance, newbieHelper).register();
-        new ContextNewbieHelperPvpStatus(instance, newbieHelper).register();
+        instance.registerContext(new ContextNewbieHelperProtected(instance, newbieHelper));
+        instance.registerContext(new ContextNewbieHelperPvpStatus(instance, newbieHelper));
     }
 }
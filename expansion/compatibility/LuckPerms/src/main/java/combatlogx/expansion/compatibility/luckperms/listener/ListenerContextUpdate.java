@@ -0,0 +1,82 @@
+package combatlogx.expansion.compatibility.luckperms.listener;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.event.PlayerTagEvent;
+import com.github.sirblobman.combatlogx.api.event.PlayerUntagEvent;
+import com.github.sirblobman.combatlogx.api.expansion.ExpansionListener;
+
+import combatlogx.expansion.compatibility.luckperms.LuckPermsExpansion;
+import combatlogx.expansion.compatibility.luckperms.context.ContextInCombat;
+import combatlogx.expansion.compatibility.luckperms.context.PlayerStatusContext;
+
+/**
+ * Keeps the cached context values of players up to date, so LuckPerms only recalculates when a value changes.
+ */
+public final class ListenerContextUpdate extends ExpansionListener {
+    private final LuckPermsExpansion expansion;
+
+    public ListenerContextUpdate(@NotNull LuckPermsExpansion expansion) {
+        super(expansion);
+        this.expansion = expansion;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        Player player = e.getPlayer();
+        List<PlayerStatusContext> contextList = getContexts();
+        for (PlayerStatusContext context : contextList) {
+            context.update(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        Player player = e.getPlayer();
+        List<PlayerStatusContext> contextList = getContexts();
+        for (PlayerStatusContext context : contextList) {
+            context.remove(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTag(PlayerTagEvent e) {
+        // The tag is stored after this event, so the value is set directly instead of read from the combat manager.
+        Player player = e.getPlayer();
+        ContextInCombat contextInCombat = getContextInCombat();
+        contextInCombat.setValue(player, true);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUntag(PlayerUntagEvent e) {
+        Player player = e.getPlayer();
+        if (!player.isOnline()) {
+            return;
+        }
+
+        ContextInCombat contextInCombat = getContextInCombat();
+        contextInCombat.setValue(player, false);
+    }
+
+    private @NotNull LuckPermsExpansion getLuckPermsExpansion() {
+        return this.expansion;
+    }
+
+    private @NotNull List<PlayerStatusContext> getContexts() {
+        LuckPermsExpansion expansion = getLuckPermsExpansion();
+        return expansion.getContexts();
+    }
+
+    private @NotNull ContextInCombat getContextInCombat() {
+        LuckPermsExpansion expansion = getLuckPermsExpansion();
+        return expansion.getContextInCombat();
+    }
+}
@@ -0,0 +1,61 @@
+package combatlogx.expansion.compatibility.luckperms.listener;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.api.utility.Validate;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+
+import combatlogx.expansion.compatibility.luckperms.LuckPermsExpansion;
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.user.User;
+
+/**
+ * Clears the cached permission timer of a player when LuckPerms recalculates their permissions.
+ */
+public final class ListenerUserRecalculate {
+    private final LuckPermsExpansion expansion;
+    private EventSubscription<UserDataRecalculateEvent> subscription;
+
+    public ListenerUserRecalculate(LuckPermsExpansion expansion) {
+        this.expansion = Validate.notNull(expansion, "expansion must not be null!");
+        this.subscription = null;
+    }
+
+    public void register() {
+        LuckPermsExpansion expansion = getExpansion();
+        ICombatLogX plugin = expansion.getPlugin();
+
+        LuckPerms luckPerms = LuckPermsProvider.get();
+        EventBus eventBus = luckPerms.getEventBus();
+        this.subscription = eventBus.subscribe(plugin.getPlugin(), UserDataRecalculateEvent.class,
+                this::onRecalculate);
+    }
+
+    public void unregister() {
+        if (this.subscription != null) {
+            this.subscription.close();
+            this.subscription = null;
+        }
+    }
+
+    private @NotNull LuckPermsExpansion getExpansion() {
+        return this.expansion;
+    }
+
+    private void onRecalculate(@NotNull UserDataRecalculateEvent e) {
+        User user = e.getUser();
+        UUID playerId = user.getUniqueId();
+
+        LuckPermsExpansion expansion = getExpansion();
+        ICombatLogX plugin = expansion.getPlugin();
+        ICombatManager combatManager = plugin.getCombatManager();
+        combatManager.clearTimerCache(playerId);
+    }
+}
@@ -0,0 +1,32 @@
+package combatlogx.expansion.compatibility.luckperms.task;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+
+import com.github.sirblobman.api.folia.details.EntityTaskDetails;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+
+import combatlogx.expansion.compatibility.luckperms.context.ContextNewbieHelperProtected;
+
+/**
+ * Reads the newbie helper protection of a single player again on the scheduler that owns the player,
+ * once the protection is expected to have expired.
+ */
+public final class ProtectionExpireTask extends EntityTaskDetails<Player> {
+    private final ContextNewbieHelperProtected context;
+
+    public ProtectionExpireTask(@NotNull ICombatLogX plugin, @NotNull Player entity,
+                                @NotNull ContextNewbieHelperProtected context) {
+        super(plugin.getPlugin(), entity);
+        this.context = context;
+    }
+
+    @Override
+    public void run() {
+        Player entity = getEntity();
+        if (entity != null) {
+            this.context.onExpireTask(entity);
+        }
+    }
+}
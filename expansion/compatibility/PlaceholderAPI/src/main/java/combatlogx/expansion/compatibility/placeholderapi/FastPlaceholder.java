@@ -0,0 +1,40 @@
+package combatlogx.expansion.compatibility.placeholderapi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Placeholders that are requested often by scoreboard and tab plugins.
+ * These only depend on the tag state of the player, so their text can be cached.
+ */
+enum FastPlaceholder {
+    IN_COMBAT("in_combat"),
+    TIME_LEFT("time_left"),
+    STATUS("status"),
+    ENEMY_COUNT("enemy_count");
+
+    private final String fullPlaceholder;
+
+    FastPlaceholder(@NotNull String placeholder) {
+        this.fullPlaceholder = ("combatlogx_" + placeholder);
+    }
+
+    @NotNull String getFullPlaceholder() {
+        return this.fullPlaceholder;
+    }
+
+    static @Nullable FastPlaceholder parse(@NotNull String placeholder) {
+        switch (placeholder) {
+            case "in_combat":
+                return IN_COMBAT;
+            case "time_left":
+                return TIME_LEFT;
+            case "status":
+                return STATUS;
+            case "enemy_count":
+                return ENEMY_COUNT;
+            default:
+                return null;
+        }
+    }
+}
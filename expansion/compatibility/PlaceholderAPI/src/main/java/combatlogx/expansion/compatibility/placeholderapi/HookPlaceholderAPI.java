@@ -2,6 +2,9 @@ package combatlogx.expansion.compatibility.placeholderapi;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -20,10 +23,17 @@ import com.github.sirblobman.combatlogx.api.object.TagInformation;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 
 public final class HookPlaceholderAPI extends PlaceholderExpansion {
+    /**
+     * Placeholders of players that are not in combat only change when the language of the player changes.
+     */
+    private static final long IDLE_CACHE_MILLIS = 5000L;
+
     private final PlaceholderAPIExpansion expansion;
+    private final Map<UUID, PlayerPlaceholderCache> cacheMap;
 
     public HookPlaceholderAPI(@NotNull PlaceholderAPIExpansion expansion) {
         this.expansion = expansion;
+        this.cacheMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -63,6 +73,11 @@ public final class HookPlaceholderAPI extends PlaceholderExpansion {
             return null;
         }
 
+        FastPlaceholder fastPlaceholder = FastPlaceholder.parse(placeholder);
+        if (fastPlaceholder != null) {
+            return getFastReplacement(player, fastPlaceholder);
+        }
+
         ICombatLogX plugin = getCombatLogX();
         IPlaceholderManager placeholderManager = plugin.getPlaceholderManager();
         if (!placeholder.startsWith("newbie_helper_")) {
@@ -75,6 +90,66 @@ public final class HookPlaceholderAPI extends PlaceholderExpansion {
         return placeholderManager.getPlaceholderReplacement(player, enemyList, placeholder);
     }
 
+    /**
+     * Remove the cached placeholder values of a player.
+     *
+     * @param playerId The unique id of the player.
+     */
+    public void clearCache(@NotNull UUID playerId) {
+        this.cacheMap.remove(playerId);
+    }
+
+    /**
+     * Remove the cached placeholder values of all players.
+     */
+    public void clearCache() {
+        this.cacheMap.clear();
+    }
+
+    /**
+     * Fast placeholders do not use the enemy list, so the tag information is only checked for combat status.
+     * Players that are not in combat get the same value until it expires.
+     */
+    private @Nullable String getFastReplacement(@NotNull Player player, @NotNull FastPlaceholder placeholder) {
+        ICombatLogX plugin = getCombatLogX();
+        ICombatManager combatManager = plugin.getCombatManager();
+        boolean inCombat = combatManager.isInCombat(player);
+
+        UUID playerId = player.getUniqueId();
+        PlayerPlaceholderCache cache = this.cacheMap.computeIfAbsent(playerId, key -> new PlayerPlaceholderCache());
+        long systemMillis = System.currentTimeMillis();
+
+        if (!inCombat) {
+            String idleValue = cache.getIdle(systemMillis, placeholder);
+            if (idleValue == null) {
+                idleValue = getSlowReplacement(player, placeholder);
+                if (idleValue != null) {
+                    cache.putIdle(systemMillis, placeholder, idleValue, IDLE_CACHE_MILLIS);
+                }
+            }
+
+            return idleValue;
+        }
+
+        long tick = (systemMillis / 50L);
+        String tickValue = cache.getTick(tick, placeholder);
+        if (tickValue == null) {
+            tickValue = getSlowReplacement(player, placeholder);
+            if (tickValue != null) {
+                cache.putTick(tick, placeholder, tickValue);
+            }
+        }
+
+        return tickValue;
+    }
+
+    private @Nullable String getSlowReplacement(@NotNull Player player, @NotNull FastPlaceholder placeholder) {
+        ICombatLogX plugin = getCombatLogX();
+        IPlaceholderManager placeholderManager = plugin.getPlaceholderManager();
+        String fullPlaceholder = placeholder.getFullPlaceholder();
+        return placeholderManager.getPlaceholderReplacement(player, Collections.emptyList(), fullPlaceholder);
+    }
+
     private @NotNull PlaceholderAPIExpansion getExpansion() {
         return this.expansion;
     }
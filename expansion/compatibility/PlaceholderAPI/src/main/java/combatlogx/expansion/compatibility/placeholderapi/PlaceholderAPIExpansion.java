@@ -1,11 +1,16 @@
 package combatlogx.expansion.compatibility.placeholderapi;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.expansion.Expansion;
 
+import combatlogx.expansion.compatibility.placeholderapi.listener.ListenerPlaceholderCache;
+
 public final class PlaceholderAPIExpansion extends Expansion {
+    private HookPlaceholderAPI hook;
+
     public PlaceholderAPIExpansion(@NotNull ICombatLogX plugin) {
         super(plugin);
     }
@@ -22,7 +27,9 @@ public final class PlaceholderAPIExpansion extends Expansion {
             return;
         }
 
-        new HookPlaceholderAPI(this).register();
+        this.hook = new HookPlaceholderAPI(this);
+        this.hook.register();
+        new ListenerPlaceholderCache(this).register();
     }
 
     @Override
@@ -32,6 +39,13 @@ public final class PlaceholderAPIExpansion extends Expansion {
 
     @Override
     public void reloadConfig() {
-        // Do Nothing
+        HookPlaceholderAPI hook = getHook();
+        if (hook != null) {
+            hook.clearCache();
+        }
+    }
+
+    public @Nullable HookPlaceholderAPI getHook() {
+        return this.hook;
     }
 }
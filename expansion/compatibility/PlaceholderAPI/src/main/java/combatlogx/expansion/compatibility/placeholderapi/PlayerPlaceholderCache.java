@@ -0,0 +1,61 @@
+package combatlogx.expansion.compatibility.placeholderapi;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The cached text of fast placeholders for a single player.
+ * Values for players in combat are only valid for a single tick.
+ * Values for players that are not in combat stay the same, so they are kept until they expire.
+ */
+final class PlayerPlaceholderCache {
+    private final Map<FastPlaceholder, String> idleMap;
+    private final Map<FastPlaceholder, String> tickMap;
+    private long idleExpireMillis;
+    private long tick;
+
+    PlayerPlaceholderCache() {
+        this.idleMap = new EnumMap<>(FastPlaceholder.class);
+        this.tickMap = new EnumMap<>(FastPlaceholder.class);
+        this.idleExpireMillis = 0L;
+        this.tick = -1L;
+    }
+
+    synchronized @Nullable String getIdle(long systemMillis, @NotNull FastPlaceholder placeholder) {
+        if (systemMillis >= this.idleExpireMillis) {
+            this.idleMap.clear();
+            return null;
+        }
+
+        return this.idleMap.get(placeholder);
+    }
+
+    synchronized void putIdle(long systemMillis, @NotNull FastPlaceholder placeholder, @NotNull String value,
+                              long cacheMillis) {
+        if (this.idleMap.isEmpty()) {
+            this.idleExpireMillis = (systemMillis + cacheMillis);
+        }
+
+        this.idleMap.put(placeholder, value);
+    }
+
+    synchronized @Nullable String getTick(long tick, @NotNull FastPlaceholder placeholder) {
+        checkTick(tick);
+        return this.tickMap.get(placeholder);
+    }
+
+    synchronized void putTick(long tick, @NotNull FastPlaceholder placeholder, @NotNull String value) {
+        checkTick(tick);
+        this.tickMap.put(placeholder, value);
+    }
+
+    private void checkTick(long tick) {
+        if (this.tick != tick) {
+            this.tickMap.clear();
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package combatlogx.expansion.compatibility.placeholderapi.listener;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.expansion.ExpansionListener;
+
+import combatlogx.expansion.compatibility.placeholderapi.HookPlaceholderAPI;
+import combatlogx.expansion.compatibility.placeholderapi.PlaceholderAPIExpansion;
+
+public final class ListenerPlaceholderCache extends ExpansionListener {
+    private final PlaceholderAPIExpansion expansion;
+
+    public ListenerPlaceholderCache(@NotNull PlaceholderAPIExpansion expansion) {
+        super(expansion);
+        this.expansion = expansion;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        PlaceholderAPIExpansion expansion = getPlaceholderAPIExpansion();
+        HookPlaceholderAPI hook = expansion.getHook();
+        if (hook == null) {
+            return;
+        }
+
+        Player player = e.getPlayer();
+        UUID playerId = player.getUniqueId();
+        hook.clearCache(playerId);
+    }
+
+    private @NotNull PlaceholderAPIExpansion getPlaceholderAPIExpansion() {
+        return this.expansion;
+    }
+}
@@ -17,6 +17,7 @@ public final class ForceFieldConfiguration implements IConfigurable {
     private XMaterial material;
     private int radius;
     private String bypassPermissionName;
+    private boolean batchPackets;
 
     private transient Permission bypassPermission;
 
@@ -25,6 +26,7 @@ public final class ForceFieldConfiguration implements IConfigurable {
         this.material = XMaterial.RED_STAINED_GLASS;
         this.radius = 8;
         this.bypassPermissionName = "combatlogx.bypass.force.field";
+        this.batchPackets = true;
     }
 
     @Override
@@ -33,6 +35,7 @@ public final class ForceFieldConfiguration implements IConfigurable {
         setMaterial(section.getString("material", "RED_STAINED_GLASS"));
         setRadius(section.getInt("radius", 8));
         setBypassPermissionName(section.getString("bypass-permission"));
+        setBatchPackets(section.getBoolean("batch-packets", true));
     }
 
     public boolean isEnabled() {
@@ -73,6 +76,14 @@ public final class ForceFieldConfiguration implements IConfigurable {
         this.radius = radius;
     }
 
+    public boolean isBatchPackets() {
+        return this.batchPackets;
+    }
+
+    public void setBatchPackets(boolean batchPackets) {
+        this.batchPackets = batchPackets;
+    }
+
     public @Nullable String getBypassPermissionName() {
         return bypassPermissionName;
     }
@@ -0,0 +1,136 @@
+package combatlogx.expansion.force.field.object;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import com.github.sirblobman.combatlogx.api.object.TagType;
+
+/**
+ * The fake blocks that are currently shown to a single player, and the position they were calculated for.
+ * The area is written by the force field task and read by the packet adapter.
+ * Readers only access the current block set while holding the lock on this object.
+ */
+public final class ForceFieldArea {
+    private final UUID playerId;
+    private final Location location;
+    private PackedBlockSet blocks;
+    private PackedBlockSet nextBlocks;
+
+    private UUID worldId;
+    private int centerX;
+    private int centerY;
+    private int centerZ;
+    private TagType tagType;
+    private long updateTick;
+    private volatile boolean dirty;
+    private boolean removed;
+
+    public ForceFieldArea(@NotNull UUID playerId) {
+        this.playerId = playerId;
+        this.location = new Location(null, 0.0D, 0.0D, 0.0D);
+        this.blocks = new PackedBlockSet();
+        this.nextBlocks = new PackedBlockSet();
+
+        this.worldId = null;
+        this.tagType = null;
+        this.updateTick = 0L;
+        this.dirty = true;
+        this.removed = false;
+    }
+
+    public @NotNull UUID getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Copy the current location of a player into a location object that is reused by this area.
+     *
+     * @param player The player that owns this area.
+     * @return The reused location object.
+     */
+    public @NotNull Location updateLocation(@NotNull Player player) {
+        return player.getLocation(this.location);
+    }
+
+    /**
+     * Check if the area must be calculated again.
+     * This is only needed when the player moved to a different block, the tag type changed,
+     * the area was invalidated, or the refresh interval has passed.
+     */
+    public boolean needsUpdate(@NotNull World world, int x, int y, int z, @NotNull TagType tagType, long tick,
+                               long refreshTicks) {
+        if (this.dirty || (tick - this.updateTick) >= refreshTicks) {
+            return true;
+        }
+
+        if (x != this.centerX || y != this.centerY || z != this.centerZ || tagType != this.tagType) {
+            return true;
+        }
+
+        UUID worldId = world.getUID();
+        return !worldId.equals(this.worldId);
+    }
+
+    /**
+     * Prepare the block set that the next area will be calculated into.
+     *
+     * @return An empty block set that is not visible to readers.
+     */
+    public @NotNull PackedBlockSet prepareNextBlocks() {
+        PackedBlockSet nextBlocks = this.nextBlocks;
+        nextBlocks.clear();
+        return nextBlocks;
+    }
+
+    /**
+     * Replace the current blocks with the blocks from {@link #prepareNextBlocks()}.
+     *
+     * @return The previous block set, or {@code null} if the area was removed.
+     * The previous set is only valid until the next call to {@link #prepareNextBlocks()}.
+     */
+    public synchronized @Nullable PackedBlockSet swapBlocks(@NotNull World world, int x, int y, int z,
+                                                            @NotNull TagType tagType, long tick) {
+        if (this.removed) {
+            return null;
+        }
+
+        PackedBlockSet oldBlocks = this.blocks;
+        this.blocks = this.nextBlocks;
+        this.nextBlocks = oldBlocks;
+
+        this.worldId = world.getUID();
+        this.centerX = x;
+        this.centerY = y;
+        this.centerZ = z;
+        this.tagType = tagType;
+        this.updateTick = tick;
+        this.dirty = false;
+        return oldBlocks;
+    }
+
+    /**
+     * @return The current blocks after marking this area as removed. No more updates will be applied.
+     */
+    public synchronized @NotNull PackedBlockSet remove() {
+        this.removed = true;
+        return this.blocks;
+    }
+
+    public synchronized boolean contains(int x, int y, int z) {
+        long packed = PackedBlockSet.pack(x, y, z);
+        return this.blocks.contains(packed);
+    }
+
+    /**
+     * Mark this area to be calculated again on the next update, for example when a region changed.
+     */
+    public void invalidate() {
+        this.dirty = true;
+    }
+}
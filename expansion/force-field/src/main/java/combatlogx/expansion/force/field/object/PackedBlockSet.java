@@ -0,0 +1,218 @@
+package combatlogx.expansion.force.field.object;
+
+import java.util.Arrays;
+
+/**
+ * A set of block positions stored as packed {@code long} values in an open-addressing hash table.
+ * Adding, checking, and clearing positions does not create any objects once the table has grown large enough.
+ * This class is not thread-safe.
+ */
+public final class PackedBlockSet {
+    /**
+     * The value used for empty slots. It can't be produced by {@link #pack(int, int, int)} for positions that are
+     * inside the world border.
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] table;
+    private int size;
+    private int mask;
+
+    public PackedBlockSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PackedBlockSet(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        this.table = new long[capacity];
+        this.mask = (capacity - 1);
+        this.size = 0;
+        Arrays.fill(this.table, EMPTY);
+    }
+
+    /**
+     * Pack a block position into a single {@code long}.
+     * X and Z use 26 bits each and Y uses 12 bits, the same layout as the Minecraft protocol.
+     */
+    public static long pack(int x, int y, int z) {
+        return (((long) x & 0x3FFFFFFL) << 38) | (((long) z & 0x3FFFFFFL) << 12) | ((long) y & 0xFFFL);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) ((packed << 52) >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) ((packed << 26) >> 38);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return (this.size == 0);
+    }
+
+    public boolean contains(long packed) {
+        long[] table = this.table;
+        int index = indexFor(packed);
+        while (true) {
+            long value = table[index];
+            if (value == EMPTY) {
+                return false;
+            }
+
+            if (value == packed) {
+                return true;
+            }
+
+            index = ((index + 1) & this.mask);
+        }
+    }
+
+    public boolean add(long packed) {
+        if (packed == EMPTY) {
+            throw new IllegalArgumentException("packed position is out of range.");
+        }
+
+        long[] table = this.table;
+        int index = indexFor(packed);
+        while (true) {
+            long value = table[index];
+            if (value == packed) {
+                return false;
+            }
+
+            if (value == EMPTY) {
+                table[index] = packed;
+                this.size++;
+                if (this.size * 2 > table.length) {
+                    resize(table.length * 2);
+                }
+
+                return true;
+            }
+
+            index = ((index + 1) & this.mask);
+        }
+    }
+
+    public boolean remove(long packed) {
+        long[] table = this.table;
+        int index = indexFor(packed);
+        while (true) {
+            long value = table[index];
+            if (value == EMPTY) {
+                return false;
+            }
+
+            if (value == packed) {
+                shiftBack(index);
+                this.size--;
+                return true;
+            }
+
+            index = ((index + 1) & this.mask);
+        }
+    }
+
+    public void clear() {
+        if (this.size == 0) {
+            return;
+        }
+
+        Arrays.fill(this.table, EMPTY);
+        this.size = 0;
+    }
+
+    /**
+     * @return The amount of slots that can be read with {@link #getSlot(int)}.
+     */
+    public int getSlotCount() {
+        return this.table.length;
+    }
+
+    /**
+     * Read a slot of the table. This is used to iterate the set without creating an iterator.
+     *
+     * @param slot The slot index, from zero to {@link #getSlotCount()} (exclusive).
+     * @return The packed position in the slot.
+     * @see #isEmptySlot(long)
+     */
+    public long getSlot(int slot) {
+        return this.table[slot];
+    }
+
+    /**
+     * @param value A value returned by {@link #getSlot(int)}.
+     * @return {@code true} if the value represents an empty slot.
+     */
+    public static boolean isEmptySlot(long value) {
+        return (value == EMPTY);
+    }
+
+    private int indexFor(long packed) {
+        long hash = (packed * 0x9E3779B97F4A7C15L);
+        return ((int) (hash ^ (hash >>> 32)) & this.mask);
+    }
+
+    private void shiftBack(int index) {
+        long[] table = this.table;
+        int mask = this.mask;
+        int gap = index;
+        int next = ((gap + 1) & mask);
+
+        while (true) {
+            long value = table[next];
+            if (value == EMPTY) {
+                break;
+            }
+
+            int ideal = indexFor(value);
+            // Move the value into the gap if its ideal slot is not between the gap and its current slot.
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                table[gap] = value;
+                gap = next;
+            }
+
+            next = ((next + 1) & mask);
+        }
+
+        table[gap] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] oldTable = this.table;
+        this.table = new long[capacity];
+        this.mask = (capacity - 1);
+        Arrays.fill(this.table, EMPTY);
+
+        for (long value : oldTable) {
+            if (value == EMPTY) {
+                continue;
+            }
+
+            int index = indexFor(value);
+            while (this.table[index] != EMPTY) {
+                index = ((index + 1) & this.mask);
+            }
+
+            this.table[index] = value;
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+}
@@ -0,0 +1,63 @@
+package combatlogx.expansion.force.field.task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+
+import com.comphenix.protocol.PacketType.Play.Server;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.BlockPosition;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import combatlogx.expansion.force.field.object.PackedBlockSet;
+
+/**
+ * Collects fake block changes for a player and sends them as one multi block change packet per chunk section.
+ */
+final class BlockChangeBatch {
+    private final Map<Long, BlockChangeSection> sectionMap;
+
+    BlockChangeBatch() {
+        this.sectionMap = new HashMap<>();
+    }
+
+    void add(int x, int y, int z, @NotNull WrappedBlockData data) {
+        int sectionX = (x >> 4);
+        int sectionY = (y >> 4);
+        int sectionZ = (z >> 4);
+        long sectionKey = PackedBlockSet.pack(sectionX, sectionY, sectionZ);
+
+        BlockChangeSection section = this.sectionMap.get(sectionKey);
+        if (section == null) {
+            section = new BlockChangeSection(sectionX, sectionY, sectionZ);
+            this.sectionMap.put(sectionKey, section);
+        }
+
+        section.add(x, y, z, data);
+    }
+
+    void send(@NotNull Player player) {
+        if (this.sectionMap.isEmpty()) {
+            return;
+        }
+
+        ProtocolManager protocolManager = ProtocolLibrary.getProtocolManager();
+        for (BlockChangeSection section : this.sectionMap.values()) {
+            BlockPosition sectionPosition = section.getSectionPosition();
+            short[] positions = section.getPositions();
+            WrappedBlockData[] blockData = section.getBlockData();
+
+            PacketContainer packet = protocolManager.createPacket(Server.MULTI_BLOCK_CHANGE);
+            packet.getSectionPositions().writeSafely(0, sectionPosition);
+            packet.getShortArrays().writeSafely(0, positions);
+            packet.getBlockDataArrays().writeSafely(0, blockData);
+            protocolManager.sendServerPacket(player, packet);
+        }
+
+        this.sectionMap.clear();
+    }
+}
@@ -0,0 +1,55 @@
+package combatlogx.expansion.force.field.task;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.comphenix.protocol.wrappers.BlockPosition;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+
+/**
+ * The block changes for a single 16x16x16 chunk section.
+ */
+final class BlockChangeSection {
+    private final int sectionX;
+    private final int sectionY;
+    private final int sectionZ;
+    private short[] positions;
+    private WrappedBlockData[] blockData;
+    private int size;
+
+    BlockChangeSection(int sectionX, int sectionY, int sectionZ) {
+        this.sectionX = sectionX;
+        this.sectionY = sectionY;
+        this.sectionZ = sectionZ;
+        this.positions = new short[16];
+        this.blockData = new WrappedBlockData[16];
+        this.size = 0;
+    }
+
+    @NotNull BlockPosition getSectionPosition() {
+        return new BlockPosition(this.sectionX, this.sectionY, this.sectionZ);
+    }
+
+    void add(int x, int y, int z, @NotNull WrappedBlockData data) {
+        if (this.size == this.positions.length) {
+            int newLength = (this.size * 2);
+            this.positions = Arrays.copyOf(this.positions, newLength);
+            this.blockData = Arrays.copyOf(this.blockData, newLength);
+        }
+
+        // The format used by the multi block change packet since Minecraft 1.16.2
+        int position = ((x & 15) << 8) | ((z & 15) << 4) | (y & 15);
+        this.positions[this.size] = (short) position;
+        this.blockData[this.size] = data;
+        this.size++;
+    }
+
+    short @NotNull [] getPositions() {
+        return Arrays.copyOf(this.positions, this.size);
+    }
+
+    WrappedBlockData @NotNull [] getBlockData() {
+        return Arrays.copyOf(this.blockData, this.size);
+    }
+}
@@ -1,25 +1,17 @@
 package combatlogx.expansion.force.field.task;
 
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import org.bukkit.GameMode;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import com.github.sirblobman.api.location.BlockLocation;
-import com.github.sirblobman.api.utility.VersionUtility;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
-import com.github.sirblobman.api.shaded.xseries.XMaterial;
 
 import com.comphenix.protocol.PacketType;
 import com.comphenix.protocol.PacketType.Play.Client;
@@ -35,7 +27,6 @@ import com.comphenix.protocol.wrappers.EnumWrappers.PlayerDigType;
 import com.comphenix.protocol.wrappers.MovingObjectPositionBlock;
 import com.comphenix.protocol.wrappers.WrappedBlockData;
 import combatlogx.expansion.force.field.ForceFieldExpansion;
-import combatlogx.expansion.force.field.configuration.ForceFieldConfiguration;
 
 /**
  * @author olivolja3
@@ -120,7 +111,7 @@ public final class ForceFieldAdapter extends PacketAdapter {
         }
 
         if (isForceFieldBlock(task, player, location, tagInformation)) {
-            WrappedBlockData wrappedBlockData = getWrappedBlockData();
+            WrappedBlockData wrappedBlockData = task.getFakeWrappedBlockData();
             StructureModifier<WrappedBlockData> blockData = packetContainer.getBlockData();
             blockData.writeSafely(0, wrappedBlockData);
         }
@@ -135,11 +126,6 @@ public final class ForceFieldAdapter extends PacketAdapter {
         return expansion.getTask();
     }
 
-    private @NotNull ForceFieldConfiguration getConfiguration() {
-        ForceFieldExpansion expansion = getExpansion();
-        return expansion.getConfiguration();
-    }
-
     private @NotNull ICombatLogX getCombatLogX() {
         ForceFieldExpansion expansion = getExpansion();
         return expansion.getPlugin();
@@ -152,37 +138,22 @@ public final class ForceFieldAdapter extends PacketAdapter {
 
     private boolean isForceFieldBlock(@NotNull ForceFieldTask task, @NotNull Player player, @NotNull Location location,
                                       @NotNull TagInformation tag) {
-        UUID playerId = player.getUniqueId();
-        Map<UUID, Set<BlockLocation>> fakeBlockMap = task.getFakeBlockMap();
-
-        if (fakeBlockMap.containsKey(playerId)) {
-            boolean isSafe = task.isSafe(player, location);
-            boolean isSafeSurround = task.isSafeSurround(player, location, tag);
-            boolean canPlace = task.canPlace(BlockLocation.from(location));
-            if (isSafe && isSafeSurround && canPlace) {
-                BlockLocation worldXYZ = BlockLocation.from(location);
-                return fakeBlockMap.get(playerId).contains(worldXYZ);
-            }
-        }
-
-        return false;
-    }
-
-    private @NotNull WrappedBlockData getWrappedBlockData() {
-        ForceFieldConfiguration configuration = getConfiguration();
-        XMaterial material = configuration.getMaterial();
-        Material bukkitMaterial = material.parseMaterial();
-        if (bukkitMaterial == null) {
-            throw new IllegalStateException("Invalid material configuration!");
+        World world = location.getWorld();
+        if (world == null) {
+            return false;
         }
 
-        int minorVersion = VersionUtility.getMinorVersion();
-        if (minorVersion < 13) {
-            byte data = material.getData();
-            return WrappedBlockData.createData(bukkitMaterial, data);
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        if (!task.isFakeBlock(player, x, y, z)) {
+            return false;
         }
 
-        return WrappedBlockData.createData(bukkitMaterial);
+        boolean isSafe = task.isSafe(player, location);
+        boolean isSafeSurround = task.isSafeSurround(player, location, tag);
+        boolean canPlace = task.canPlace(world, x, y, z);
+        return (isSafe && isSafeSurround && canPlace);
     }
 
     private @Nullable Location getLocation0(@NotNull World world, @NotNull PacketContainer packet) {
@@ -1,14 +1,12 @@
 package combatlogx.expansion.force.field.task;
 
-import java.util.ConcurrentModificationException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -27,10 +25,10 @@ import org.bukkit.plugin.java.JavaPlugin;
 import com.github.sirblobman.api.folia.details.RunnableTask;
 import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.api.folia.task.WrappedTask;
-import com.github.sirblobman.api.location.BlockLocation;
 import com.github.sirblobman.api.utility.VersionUtility;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.event.PlayerUntagEvent;
+import com.github.sirblobman.combatlogx.api.event.SafeZoneChangeEvent;
 import com.github.sirblobman.combatlogx.api.expansion.Expansion;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionListener;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionManager;
@@ -38,23 +36,42 @@ import com.github.sirblobman.combatlogx.api.expansion.region.RegionExpansion;
 import com.github.sirblobman.combatlogx.api.expansion.region.RegionHandler;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
+import com.github.sirblobman.combatlogx.api.object.TagType;
 import com.github.sirblobman.api.shaded.xseries.XMaterial;
 
 import com.comphenix.protocol.ProtocolLibrary;
 import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
 import combatlogx.expansion.force.field.ForceFieldExpansion;
 import combatlogx.expansion.force.field.configuration.ForceFieldConfiguration;
+import combatlogx.expansion.force.field.object.ForceFieldArea;
+import combatlogx.expansion.force.field.object.PackedBlockSet;
 
 public final class ForceFieldTask extends ExpansionListener implements Runnable {
+    /**
+     * The amount of ticks after which an area is calculated again, even if the player did not move.
+     * This makes sure region changes are eventually shown.
+     */
+    private static final long REFRESH_TICKS = 20L;
+    private static final BlockFace[] SURROUND_FACES = {BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH,
+            BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST};
+
     private final ForceFieldExpansion expansion;
-    private final Map<UUID, Set<BlockLocation>> fakeBlockMap;
+    private final Map<UUID, ForceFieldArea> forceFieldMap;
     private WrappedTask wrappedTask;
+    private long tick;
+
+    private XMaterial fakeBlockMaterial;
+    private BlockData fakeBlockData;
+    private XMaterial fakeWrappedBlockMaterial;
+    private WrappedBlockData fakeWrappedBlockData;
 
     public ForceFieldTask(@NotNull ForceFieldExpansion expansion) {
         super(expansion);
         this.expansion = expansion;
-        this.fakeBlockMap = new ConcurrentHashMap<>();
+        this.forceFieldMap = new ConcurrentHashMap<>();
         this.wrappedTask = null;
+        this.tick = 0L;
     }
 
     @Override
@@ -64,6 +81,8 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
             return;
         }
 
+        this.tick++;
+
         ICombatManager combatManager = getCombatManager();
         List<Player> combatPlayerList = combatManager.getPlayersInCombat();
         for (Player player : combatPlayerList) {
@@ -75,7 +94,10 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
     public void onQuit(PlayerQuitEvent e) {
         Player player = e.getPlayer();
         UUID playerId = player.getUniqueId();
-        this.fakeBlockMap.remove(playerId);
+        ForceFieldArea area = this.forceFieldMap.remove(playerId);
+        if (area != null) {
+            area.remove();
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -84,6 +106,11 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
         removeForceField(player);
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSafeZoneChange(SafeZoneChangeEvent e) {
+        invalidateAll();
+    }
+
     public void registerProtocol() {
         ForceFieldExpansion forceFieldExpansion = getForceFieldExpansion();
         ProtocolManager protocolManager = ProtocolLibrary.getProtocolManager();
@@ -117,8 +144,22 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
         }
     }
 
-    public @NotNull Map<UUID, Set<BlockLocation>> getFakeBlockMap() {
-        return this.fakeBlockMap;
+    /**
+     * Check if a fake force field block is currently shown to a player at a position.
+     */
+    public boolean isFakeBlock(@NotNull Player player, int x, int y, int z) {
+        UUID playerId = player.getUniqueId();
+        ForceFieldArea area = this.forceFieldMap.get(playerId);
+        return (area != null && area.contains(x, y, z));
+    }
+
+    /**
+     * Mark all force field areas to be calculated again on the next tick.
+     */
+    public void invalidateAll() {
+        for (ForceFieldArea area : this.forceFieldMap.values()) {
+            area.invalidate();
+        }
     }
 
     boolean isSafe(@NotNull Player player, @NotNull Location location) {
@@ -132,17 +173,10 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
     }
 
     boolean isSafeSurround(@NotNull Player player, @NotNull Location location, @NotNull TagInformation tag) {
-        Block blockLocation = location.getBlock();
-        BlockFace[] faces = {BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH, BlockFace.SOUTH,
-                BlockFace.EAST, BlockFace.WEST};
-        for (BlockFace blockFace : faces) {
-            Location relativeLocation = blockLocation.getRelative(blockFace).getLocation();
-            if (!isSafe(player, relativeLocation, tag)) {
-                return true;
-            }
-        }
-
-        return false;
+        World world = location.getWorld();
+        Location relativeLocation = new Location(world, 0.0D, 0.0D, 0.0D);
+        return isSafeSurround(player, location.getBlockX(), location.getBlockY(), location.getBlockZ(),
+                relativeLocation, tag);
     }
 
     void sendForceField(Player player, Location location) {
@@ -153,28 +187,17 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
         if (minorVersion < 13) {
             sendFakeBlockLegacy(player, location, material);
         } else {
-            sendFakeBlockModern(player, location, material);
+            sendFakeBlockModern(player, location);
         }
     }
 
-    boolean canPlace(@NotNull BlockLocation blockLocation) {
-        World world = blockLocation.getWorld();
-        if (world == null) {
-            return false;
-        }
-
+    boolean canPlace(@NotNull World world, int x, int y, int z) {
         int maxY = world.getMaxHeight();
-        int locationY = blockLocation.getY();
-        if (locationY > maxY) {
+        if (y > maxY) {
             return false;
         }
 
-        Location location = blockLocation.asLocation();
-        if (location == null) {
-            return false;
-        }
-
-        Block block = location.getBlock();
+        Block block = world.getBlockAt(x, y, z);
         Material material = block.getType();
         return (material == Material.AIR || !material.isSolid());
     }
@@ -194,12 +217,14 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
             return;
         }
 
-        Location location = player.getLocation();
+        UUID playerId = player.getUniqueId();
+        ForceFieldArea area = this.forceFieldMap.computeIfAbsent(playerId, ForceFieldArea::new);
+        Location location = area.updateLocation(player);
         if (isSafe(player, location)) {
             return;
         }
 
-        updateForceField(player);
+        updateForceField(player, area, location);
     }
 
     private boolean hasBypass(@NotNull Player player) {
@@ -224,7 +249,7 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
 
             RegionExpansion regionExpansion = (RegionExpansion) expansion;
             RegionHandler<?> regionHandler = regionExpansion.getRegionHandler();
-            if (regionHandler.isSafeZone(player, location, tag)) {
+            if (regionHandler.isSafeZoneCached(player, location, tag)) {
                 return true;
             }
         }
@@ -232,102 +257,163 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
         return false;
     }
 
-    private void updateForceField(@NotNull Player player) {
+    private void updateForceField(@NotNull Player player, @NotNull ForceFieldArea area, @NotNull Location location) {
         ICombatManager combatManager = getCombatManager();
-        if (!combatManager.isInCombat(player)) {
+        TagInformation tagInformation = combatManager.getTagInformation(player);
+        if (tagInformation == null) {
             removeForceField(player);
             return;
         }
 
-        TagInformation tagInformation = combatManager.getTagInformation(player);
-        if (tagInformation == null) {
-            removeForceField(player);
+        World world = location.getWorld();
+        if (world == null) {
             return;
         }
 
-        updateForceField(player, tagInformation);
-    }
+        int playerX = location.getBlockX();
+        int playerY = location.getBlockY();
+        int playerZ = location.getBlockZ();
+        TagType tagType = tagInformation.getCurrentTagType();
+        long tick = this.tick;
+        if (!area.needsUpdate(world, playerX, playerY, playerZ, tagType, tick, REFRESH_TICKS)) {
+            return;
+        }
 
-    private void updateForceField(@NotNull Player player, @NotNull TagInformation tag) {
-        Set<BlockLocation> oldArea = new HashSet<>();
-        Set<BlockLocation> newArea = getForceFieldArea(player, tag);
-        Set<BlockLocation> fullArea = new HashSet<>(newArea);
+        PackedBlockSet newBlocks = area.prepareNextBlocks();
+        calculateForceField(player, tagInformation, world, playerX, playerY, playerZ, newBlocks);
 
-        UUID playerId = player.getUniqueId();
-        if (this.fakeBlockMap.containsKey(playerId)) {
-            oldArea = this.fakeBlockMap.get(playerId);
-            newArea.removeAll(oldArea);
-
-            try {
-                oldArea.removeAll(fullArea); // Sometimes causes ConcurrentModificationException?
-            } catch (ConcurrentModificationException ex) {
-                printDebug("Detected ForceField concurrent modification:");
-                if (!isDebugModeDisabled()) {
-                    ex.printStackTrace();
-                }
-            }
+        PackedBlockSet oldBlocks = area.swapBlocks(world, playerX, playerY, playerZ, tagType, tick);
+        if (oldBlocks == null) {
+            return;
         }
 
-        this.fakeBlockMap.put(playerId, fullArea);
-        for (BlockLocation blockLocation : newArea) {
-            Location location = blockLocation.asLocation();
-            if (location != null) {
-                sendForceField(player, location);
+        // Only the difference between the old and new area is sent to the player.
+        BlockChangeBatch batch = createBatch();
+        for (int slot = 0; slot < newBlocks.getSlotCount(); slot++) {
+            long packed = newBlocks.getSlot(slot);
+            if (PackedBlockSet.isEmptySlot(packed) || oldBlocks.contains(packed)) {
+                continue;
+            }
+
+            if (batch == null) {
+                sendForceField(player, toLocation(world, packed));
+            } else {
+                addFakeBlock(batch, packed);
             }
         }
 
-        for (BlockLocation blockLocation : oldArea) {
-            Location location = blockLocation.asLocation();
-            if (location != null) {
-                resetBlock(player, location);
+        for (int slot = 0; slot < oldBlocks.getSlotCount(); slot++) {
+            long packed = oldBlocks.getSlot(slot);
+            if (PackedBlockSet.isEmptySlot(packed) || newBlocks.contains(packed)) {
+                continue;
             }
+
+            if (batch == null) {
+                resetBlock(player, toLocation(world, packed));
+            } else {
+                addRealBlock(batch, world, packed);
+            }
+        }
+
+        if (batch != null) {
+            batch.send(player);
         }
     }
 
-    private @NotNull Set<BlockLocation> getForceFieldArea(@NotNull Player player, @NotNull TagInformation tagInformation) {
-        World world = player.getWorld();
-        BlockLocation playerBlockLocation = BlockLocation.from(player);
+    /**
+     * @return A new batch for block changes, or {@code null} if blocks should be sent one at a time.
+     */
+    private @Nullable BlockChangeBatch createBatch() {
+        ForceFieldConfiguration configuration = getConfiguration();
+        if (!configuration.isBatchPackets()) {
+            return null;
+        }
+
+        // The section based multi block change packet is used since 1.16.2
+        int minorVersion = VersionUtility.getMinorVersion();
+        if (minorVersion < 17 || getFakeBlockData() == null) {
+            return null;
+        }
 
-        Set<BlockLocation> area = new HashSet<>();
+        return new BlockChangeBatch();
+    }
+
+    private void addFakeBlock(@NotNull BlockChangeBatch batch, long packed) {
+        int x = PackedBlockSet.unpackX(packed);
+        int y = PackedBlockSet.unpackY(packed);
+        int z = PackedBlockSet.unpackZ(packed);
+        WrappedBlockData blockData = getFakeWrappedBlockData();
+        batch.add(x, y, z, blockData);
+    }
+
+    private void addRealBlock(@NotNull BlockChangeBatch batch, @NotNull World world, long packed) {
+        int x = PackedBlockSet.unpackX(packed);
+        int y = PackedBlockSet.unpackY(packed);
+        int z = PackedBlockSet.unpackZ(packed);
+        Block block = world.getBlockAt(x, y, z);
+        BlockData blockData = block.getBlockData();
+        batch.add(x, y, z, WrappedBlockData.createData(blockData));
+    }
+
+    private void calculateForceField(@NotNull Player player, @NotNull TagInformation tagInformation,
+                                     @NotNull World world, int playerX, int playerY, int playerZ,
+                                     @NotNull PackedBlockSet area) {
         ForceFieldConfiguration configuration = getConfiguration();
         int radius = configuration.getRadius();
 
-        int playerX = playerBlockLocation.getX();
-        int playerY = playerBlockLocation.getY();
-        int playerZ = playerBlockLocation.getZ();
         int minX = (playerX - radius);
         int maxX = (playerX + radius);
         int minZ = (playerZ - radius);
         int maxZ = (playerZ + radius);
 
+        Location location = new Location(world, 0.0D, playerY, 0.0D);
+        Location relativeLocation = new Location(world, 0.0D, 0.0D, 0.0D);
         for (int x = minX; x <= maxX; x++) {
             for (int z = minZ; z <= maxZ; z++) {
-                BlockLocation blockLocation = BlockLocation.from(world, x, playerY, z);
-                Location location = blockLocation.asLocation();
-                if (location == null) {
-                    continue;
-                }
+                location.setX(x);
+                location.setY(playerY);
+                location.setZ(z);
 
                 if (!isSafe(player, location, tagInformation)) {
                     continue;
                 }
 
-                if (!isSafeSurround(player, location, tagInformation)) {
+                if (!isSafeSurround(player, x, playerY, z, relativeLocation, tagInformation)) {
                     continue;
                 }
 
                 for (int y = -radius; y < radius; y++) {
-                    BlockLocation blockLocation2 = BlockLocation.from(world, x, playerY + y, z);
-                    if (!canPlace(blockLocation2)) {
+                    int blockY = (playerY + y);
+                    if (!canPlace(world, x, blockY, z)) {
                         continue;
                     }
 
-                    area.add(blockLocation2);
+                    long packed = PackedBlockSet.pack(x, blockY, z);
+                    area.add(packed);
                 }
             }
         }
+    }
+
+    private boolean isSafeSurround(@NotNull Player player, int x, int y, int z, @NotNull Location relativeLocation,
+                                   @NotNull TagInformation tag) {
+        for (BlockFace blockFace : SURROUND_FACES) {
+            relativeLocation.setX(x + blockFace.getModX());
+            relativeLocation.setY(y + blockFace.getModY());
+            relativeLocation.setZ(z + blockFace.getModZ());
+            if (!isSafe(player, relativeLocation, tag)) {
+                return true;
+            }
+        }
 
-        return area;
+        return false;
+    }
+
+    private @NotNull Location toLocation(@NotNull World world, long packed) {
+        int x = PackedBlockSet.unpackX(packed);
+        int y = PackedBlockSet.unpackY(packed);
+        int z = PackedBlockSet.unpackZ(packed);
+        return new Location(world, x, y, z);
     }
 
     private void resetBlock(Player player, Location location) {
@@ -365,28 +451,85 @@ public final class ForceFieldTask extends ExpansionListener implements Runnable
         player.sendBlockChange(location, bukkitMaterial, data);
     }
 
-    private void sendFakeBlockModern(@NotNull Player player, @NotNull Location location, @NotNull XMaterial material) {
-        Material bukkitMaterial = material.parseMaterial();
-        if (bukkitMaterial == null || !bukkitMaterial.isBlock()) {
+    private void sendFakeBlockModern(@NotNull Player player, @NotNull Location location) {
+        BlockData blockData = getFakeBlockData();
+        if (blockData == null) {
             return;
         }
 
-        BlockData blockData = bukkitMaterial.createBlockData();
         player.sendBlockChange(location, blockData);
     }
 
+    /**
+     * @return The block data for the configured material, or {@code null} if the material is not a block.
+     */
+    private synchronized @Nullable BlockData getFakeBlockData() {
+        ForceFieldConfiguration configuration = getConfiguration();
+        XMaterial material = configuration.getMaterial();
+        if (material == this.fakeBlockMaterial) {
+            return this.fakeBlockData;
+        }
+
+        Material bukkitMaterial = material.parseMaterial();
+        if (bukkitMaterial == null || !bukkitMaterial.isBlock()) {
+            this.fakeBlockData = null;
+        } else {
+            this.fakeBlockData = bukkitMaterial.createBlockData();
+        }
+
+        this.fakeBlockMaterial = material;
+        return this.fakeBlockData;
+    }
+
+    synchronized @NotNull WrappedBlockData getFakeWrappedBlockData() {
+        ForceFieldConfiguration configuration = getConfiguration();
+        XMaterial material = configuration.getMaterial();
+        if (material == this.fakeWrappedBlockMaterial && this.fakeWrappedBlockData != null) {
+            return this.fakeWrappedBlockData;
+        }
+
+        Material bukkitMaterial = material.parseMaterial();
+        if (bukkitMaterial == null) {
+            throw new IllegalStateException("Invalid material configuration!");
+        }
+
+        int minorVersion = VersionUtility.getMinorVersion();
+        if (minorVersion < 13) {
+            byte data = material.getData();
+            this.fakeWrappedBlockData = WrappedBlockData.createData(bukkitMaterial, data);
+        } else {
+            this.fakeWrappedBlockData = WrappedBlockData.createData(bukkitMaterial);
+        }
+
+        this.fakeWrappedBlockMaterial = material;
+        return this.fakeWrappedBlockData;
+    }
+
     private void removeForceField(@NotNull Player player) {
         UUID playerId = player.getUniqueId();
-        if (!this.fakeBlockMap.containsKey(playerId)) {
+        ForceFieldArea area = this.forceFieldMap.remove(playerId);
+        if (area == null) {
             return;
         }
 
-        Set<BlockLocation> oldArea = new HashSet<>(this.fakeBlockMap.remove(playerId));
-        for (BlockLocation blockLocation : oldArea) {
-            Location location = blockLocation.asLocation();
-            if (location != null) {
-                resetBlock(player, location);
+        World world = player.getWorld();
+        PackedBlockSet oldBlocks = area.remove();
+        BlockChangeBatch batch = createBatch();
+        for (int slot = 0; slot < oldBlocks.getSlotCount(); slot++) {
+            long packed = oldBlocks.getSlot(slot);
+            if (PackedBlockSet.isEmptySlot(packed)) {
+                continue;
+            }
+
+            if (batch == null) {
+                resetBlock(player, toLocation(world, packed));
+            } else {
+                addRealBlock(batch, world, packed);
             }
         }
+
+        if (batch != null) {
+            batch.send(player);
+        }
     }
 }
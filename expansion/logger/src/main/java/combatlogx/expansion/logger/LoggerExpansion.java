@@ -8,13 +8,16 @@ import com.github.sirblobman.combatlogx.api.expansion.Expansion;
 
 import combatlogx.expansion.logger.configuration.LoggerConfiguration;
 import combatlogx.expansion.logger.listener.ListenerLogger;
+import combatlogx.expansion.logger.writer.LogWriter;
 
 public final class LoggerExpansion extends Expansion {
     private final LoggerConfiguration configuration;
+    private volatile LogWriter logWriter;
 
     public LoggerExpansion(ICombatLogX plugin) {
         super(plugin);
         this.configuration = new LoggerConfiguration();
+        this.logWriter = null;
     }
 
     @Override
@@ -26,12 +29,13 @@ public final class LoggerExpansion extends Expansion {
     @Override
     public void onEnable() {
         reloadConfig();
+        startLogWriter();
         new ListenerLogger(this).register();
     }
 
     @Override
     public void onDisable() {
-        // Do Nothing
+        stopLogWriter();
     }
 
     @Override
@@ -39,9 +43,50 @@ public final class LoggerExpansion extends Expansion {
         ConfigurationManager configurationManager = getConfigurationManager();
         configurationManager.reload("config.yml");
         getConfiguration().load(configurationManager.get("config.yml"));
+
+        if (this.logWriter != null) {
+            restartLogWriter();
+        }
     }
 
     public @NotNull LoggerConfiguration getConfiguration() {
         return this.configuration;
     }
+
+    public @NotNull LogWriter getLogWriter() {
+        LogWriter logWriter = this.logWriter;
+        if (logWriter == null) {
+            throw new IllegalStateException("The log writer is not running.");
+        }
+
+        return logWriter;
+    }
+
+    private void startLogWriter() {
+        LogWriter logWriter = new LogWriter(this);
+        logWriter.start();
+        this.logWriter = logWriter;
+    }
+
+    /**
+     * The old writer is stopped and drained before the new one is started,
+     * so only one thread ever writes to the log file.
+     * Listeners keep the old writer until then, and entries appended while it drains are skipped.
+     */
+    private void restartLogWriter() {
+        LogWriter oldLogWriter = this.logWriter;
+        if (oldLogWriter != null) {
+            oldLogWriter.stop();
+        }
+
+        startLogWriter();
+    }
+
+    private void stopLogWriter() {
+        LogWriter logWriter = this.logWriter;
+        this.logWriter = null;
+        if (logWriter != null) {
+            logWriter.stop();
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package combatlogx.expansion.logger.configuration;
+
+/**
+ * The action to take when a log entry is added while the writer queue is full.
+ */
+public enum FullQueuePolicy {
+    /**
+     * The new log entry will be discarded.
+     */
+    DROP,
+
+    /**
+     * The thread that is logging will wait until the writer has space in the queue.
+     */
+    BLOCK
+}
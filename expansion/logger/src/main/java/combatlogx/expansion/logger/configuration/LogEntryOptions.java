@@ -2,8 +2,9 @@ package combatlogx.expansion.logger.configuration;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.time.Instant;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -21,6 +22,9 @@ public final class LogEntryOptions implements IConfigurable {
     private String punishFormat;
 
     private transient DateFormat dateFormat;
+    private transient volatile Map<LogType, LogTemplate> templateMap;
+    private transient long cachedPrefixTime;
+    private transient String cachedPrefix;
 
     public LogEntryOptions() {
         this.prefixFormat = "";
@@ -32,6 +36,9 @@ public final class LogEntryOptions implements IConfigurable {
         this.punishFormat = "";
 
         this.dateFormat = null;
+        this.templateMap = null;
+        this.cachedPrefixTime = -1L;
+        this.cachedPrefix = null;
     }
 
     @Override
@@ -43,6 +50,7 @@ public final class LogEntryOptions implements IConfigurable {
         setRetagFormat(section.getString("retag-format", ""));
         setUntagFormat(section.getString("untag-format", ""));
         setPunishFormat(section.getString("punish-format", ""));
+        compileTemplates();
     }
 
     public @NotNull String getPrefixFormat() {
@@ -51,6 +59,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setPrefixFormat(@NotNull String prefixFormat) {
         this.prefixFormat = prefixFormat;
+        clearPrefixCache();
     }
 
     public @NotNull String getEntityDamageEventFormat() {
@@ -59,6 +68,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setEntityDamageEventFormat(@NotNull String entityDamageEventFormat) {
         this.entityDamageEventFormat = entityDamageEventFormat;
+        this.templateMap = null;
     }
 
     public @NotNull String getPretagFormat() {
@@ -67,6 +77,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setPretagFormat(@NotNull String pretagFormat) {
         this.pretagFormat = pretagFormat;
+        this.templateMap = null;
     }
 
     public @NotNull String getTagFormat() {
@@ -75,6 +86,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setTagFormat(@NotNull String tagFormat) {
         this.tagFormat = tagFormat;
+        this.templateMap = null;
     }
 
     public @NotNull String getRetagFormat() {
@@ -83,6 +95,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setRetagFormat(@NotNull String retagFormat) {
         this.retagFormat = retagFormat;
+        this.templateMap = null;
     }
 
     public @NotNull String getUntagFormat() {
@@ -91,6 +104,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setUntagFormat(@NotNull String untagFormat) {
         this.untagFormat = untagFormat;
+        this.templateMap = null;
     }
 
     public @NotNull String getPunishFormat() {
@@ -99,6 +113,7 @@ public final class LogEntryOptions implements IConfigurable {
 
     public void setPunishFormat(@NotNull String punishFormat) {
         this.punishFormat = punishFormat;
+        this.templateMap = null;
     }
 
     public @NotNull DateFormat getDateFormat() {
@@ -111,10 +126,49 @@ public final class LogEntryOptions implements IConfigurable {
         return this.dateFormat;
     }
 
-    public @NotNull String getCurrentPrefix() {
-        Instant now = Instant.now();
-        Date date = Date.from(now);
+    /**
+     * The formatted prefix is cached for one second, or one millisecond if the format contains milliseconds.
+     *
+     * @return The prefix for a log entry at the current time.
+     */
+    public synchronized @NotNull String getCurrentPrefix() {
+        long systemMillis = System.currentTimeMillis();
+        String prefixFormat = getPrefixFormat();
+        long prefixTime = (prefixFormat.indexOf('S') == -1 ? (systemMillis / 1_000L) : systemMillis);
+        if (this.cachedPrefix != null && this.cachedPrefixTime == prefixTime) {
+            return this.cachedPrefix;
+        }
+
+        Date date = new Date(systemMillis);
         DateFormat dateFormat = getDateFormat();
-        return dateFormat.format(date);
+        this.cachedPrefix = dateFormat.format(date);
+        this.cachedPrefixTime = prefixTime;
+        return this.cachedPrefix;
+    }
+
+    public @NotNull LogTemplate getTemplate(@NotNull LogType logType) {
+        Map<LogType, LogTemplate> templateMap = this.templateMap;
+        if (templateMap == null) {
+            templateMap = compileTemplates();
+        }
+
+        return templateMap.get(logType);
+    }
+
+    private @NotNull Map<LogType, LogTemplate> compileTemplates() {
+        Map<LogType, LogTemplate> templateMap = new EnumMap<>(LogType.class);
+        for (LogType logType : LogType.values()) {
+            LogTemplate template = logType.compileTemplate(this);
+            templateMap.put(logType, template);
+        }
+
+        this.templateMap = templateMap;
+        return templateMap;
+    }
+
+    private synchronized void clearPrefixCache() {
+        this.dateFormat = null;
+        this.cachedPrefix = null;
+        this.cachedPrefixTime = -1L;
     }
 }
@@ -0,0 +1,98 @@
+package combatlogx.expansion.logger.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A log entry format that was split into literal text and placeholder slots once at load time.
+ * Rendering appends the parts directly into a builder instead of calling {@link String#replace} per placeholder.
+ */
+public final class LogTemplate {
+    private final String[] literals;
+    private final int[] slots;
+
+    private LogTemplate(String @NotNull [] literals, int @NotNull [] slots) {
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Compile a format into a template.
+     * Placeholders that are not in the list are kept as literal text.
+     *
+     * @param format       The format from the configuration.
+     * @param placeholders The placeholder names that can be used in the format, without braces.
+     *                     The index of each name is the index of its value when rendering.
+     * @return A compiled template.
+     */
+    public static @NotNull LogTemplate compile(@NotNull String format, String @NotNull ... placeholders) {
+        List<String> literalList = new ArrayList<>();
+        List<Integer> slotList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int index = 0;
+        int length = format.length();
+        while (index < length) {
+            int slot = -1;
+            int end = -1;
+
+            char character = format.charAt(index);
+            if (character == '{') {
+                end = format.indexOf('}', index);
+                if (end != -1) {
+                    String name = format.substring(index + 1, end);
+                    slot = indexOf(placeholders, name);
+                }
+            }
+
+            if (slot == -1) {
+                literal.append(character);
+                index++;
+                continue;
+            }
+
+            literalList.add(literal.toString());
+            literal.setLength(0);
+            slotList.add(slot);
+            index = (end + 1);
+        }
+
+        literalList.add(literal.toString());
+
+        String[] literals = literalList.toArray(new String[0]);
+        int[] slots = new int[slotList.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = slotList.get(i);
+        }
+
+        return new LogTemplate(literals, slots);
+    }
+
+    private static int indexOf(String @NotNull [] placeholders, @NotNull String name) {
+        for (int i = 0; i < placeholders.length; i++) {
+            if (placeholders[i].equals(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Append this template to a builder.
+     *
+     * @param builder The builder that will receive the rendered text.
+     * @param values  The placeholder values, in the same order as the names used to compile this template.
+     */
+    public void appendTo(@NotNull StringBuilder builder, String @NotNull ... values) {
+        int slotCount = this.slots.length;
+        for (int i = 0; i < slotCount; i++) {
+            builder.append(this.literals[i]);
+            builder.append(values[this.slots[i]]);
+        }
+
+        builder.append(this.literals[slotCount]);
+    }
+}
@@ -5,20 +5,28 @@ import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 
 public enum LogType {
-    ENTITY_DAMAGE_EVENT(LogOptions::isLogEntityDamageEvent, LogEntryOptions::getEntityDamageEventFormat),
-    PRE_TAG(LogOptions::isLogPreTag, LogEntryOptions::getPretagFormat),
-    TAG(LogOptions::isLogTag, LogEntryOptions::getTagFormat),
-    RE_TAG(LogOptions::isLogRetag, LogEntryOptions::getRetagFormat),
-    UNTAG(LogOptions::isLogUntag, LogEntryOptions::getUntagFormat),
-    PUNISH(LogOptions::isLogPunish, LogEntryOptions::getPunishFormat);
+    ENTITY_DAMAGE_EVENT(LogOptions::isLogEntityDamageEvent, LogEntryOptions::getEntityDamageEventFormat,
+            "damaged_type", "damaged_name", "damager_type", "damager_name", "was_cancelled"),
+    PRE_TAG(LogOptions::isLogPreTag, LogEntryOptions::getPretagFormat,
+            "player_name", "enemy_name", "tag_reason", "tag_type", "was_cancelled"),
+    TAG(LogOptions::isLogTag, LogEntryOptions::getTagFormat,
+            "player_name", "enemy_name", "tag_reason", "tag_type"),
+    RE_TAG(LogOptions::isLogRetag, LogEntryOptions::getRetagFormat,
+            "player_name", "enemy_name", "tag_reason", "tag_type", "was_cancelled"),
+    UNTAG(LogOptions::isLogUntag, LogEntryOptions::getUntagFormat,
+            "player_name", "untag_reason", "was_expire"),
+    PUNISH(LogOptions::isLogPunish, LogEntryOptions::getPunishFormat,
+            "player_name", "enemy_name", "punish_reason", "was_cancelled");
 
     private final Function<LogOptions, Boolean> enabledFunction;
     private final Function<LogEntryOptions, String> formatFunction;
+    private final String[] placeholders;
 
     LogType(@NotNull Function<LogOptions, Boolean> enabledFunction,
-            @NotNull Function<LogEntryOptions, String> formatFunction) {
+            @NotNull Function<LogEntryOptions, String> formatFunction, String @NotNull ... placeholders) {
         this.enabledFunction = enabledFunction;
         this.formatFunction = formatFunction;
+        this.placeholders = placeholders;
     }
 
     private @NotNull Function<LogOptions, Boolean> getEnabledFunction() {
@@ -38,4 +46,24 @@ public enum LogType {
         Function<LogEntryOptions, String> formatFunction = getFormatFunction();
         return formatFunction.apply(options);
     }
+
+    /**
+     * @return The placeholder names supported by this log type, in the order their values are passed when rendering.
+     */
+    public String @NotNull [] getPlaceholders() {
+        return this.placeholders.clone();
+    }
+
+    /**
+     * @param options The log entry options that contain the format.
+     * @return The compiled template for the format of this log type.
+     */
+    public @NotNull LogTemplate getTemplate(@NotNull LogEntryOptions options) {
+        return options.getTemplate(this);
+    }
+
+    @NotNull LogTemplate compileTemplate(@NotNull LogEntryOptions options) {
+        String format = getFormat(options);
+        return LogTemplate.compile(format, this.placeholders);
+    }
 }
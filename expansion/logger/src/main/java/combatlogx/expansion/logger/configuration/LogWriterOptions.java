@@ -0,0 +1,65 @@
+package combatlogx.expansion.logger.configuration;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import com.github.sirblobman.api.configuration.IConfigurable;
+
+import static com.github.sirblobman.api.utility.ConfigurationHelper.parseEnum;
+
+public final class LogWriterOptions implements IConfigurable {
+    private int queueSize;
+    private FullQueuePolicy fullQueuePolicy;
+    private long flushIntervalMillis;
+    private int flushSize;
+
+    public LogWriterOptions() {
+        this.queueSize = 4096;
+        this.fullQueuePolicy = FullQueuePolicy.DROP;
+        this.flushIntervalMillis = 1000L;
+        this.flushSize = 8192;
+    }
+
+    @Override
+    public void load(@NotNull ConfigurationSection section) {
+        setQueueSize(section.getInt("queue-size", 4096));
+        setFlushIntervalMillis(section.getLong("flush-interval", 1000L));
+        setFlushSize(section.getInt("flush-size", 8192));
+
+        String fullQueuePolicyName = section.getString("full-queue-policy");
+        setFullQueuePolicy(parseEnum(FullQueuePolicy.class, fullQueuePolicyName, FullQueuePolicy.DROP));
+    }
+
+    public int getQueueSize() {
+        return this.queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = Math.max(1, queueSize);
+    }
+
+    public @NotNull FullQueuePolicy getFullQueuePolicy() {
+        return this.fullQueuePolicy;
+    }
+
+    public void setFullQueuePolicy(@NotNull FullQueuePolicy fullQueuePolicy) {
+        this.fullQueuePolicy = fullQueuePolicy;
+    }
+
+    public long getFlushIntervalMillis() {
+        return this.flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = Math.max(1L, flushIntervalMillis);
+    }
+
+    public int getFlushSize() {
+        return this.flushSize;
+    }
+
+    public void setFlushSize(int flushSize) {
+        this.flushSize = Math.max(0, flushSize);
+    }
+}
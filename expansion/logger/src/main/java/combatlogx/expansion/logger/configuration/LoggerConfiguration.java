@@ -10,11 +10,13 @@ public final class LoggerConfiguration implements IConfigurable {
     private final LogFileInfo logFileInfo;
     private final LogOptions logOptions;
     private final LogEntryOptions logEntryOptions;
+    private final LogWriterOptions logWriterOptions;
 
     public LoggerConfiguration() {
         this.logFileInfo = new LogFileInfo();
         this.logOptions = new LogOptions();
         this.logEntryOptions = new LogEntryOptions();
+        this.logWriterOptions = new LogWriterOptions();
     }
 
     @Override
@@ -22,6 +24,7 @@ public final class LoggerConfiguration implements IConfigurable {
         getLogFileInfo().load(getOrCreateSection(config, "log-file-info"));
         getLogOptions().load(getOrCreateSection(config, "log-options"));
         getLogEntryOptions().load(getOrCreateSection(config, "log-entry-options"));
+        getLogWriterOptions().load(getOrCreateSection(config, "log-writer-options"));
     }
 
     public LogFileInfo getLogFileInfo() {
@@ -35,4 +38,8 @@ public final class LoggerConfiguration implements IConfigurable {
     public LogEntryOptions getLogEntryOptions() {
         return this.logEntryOptions;
     }
+
+    public LogWriterOptions getLogWriterOptions() {
+        return this.logWriterOptions;
+    }
 }
@@ -1,16 +1,6 @@
 package combatlogx.expansion.logger.listener;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
@@ -42,17 +32,20 @@ import com.github.sirblobman.api.shaded.adventure.text.Component;
 
 import combatlogx.expansion.logger.LoggerExpansion;
 import combatlogx.expansion.logger.configuration.LogEntryOptions;
-import combatlogx.expansion.logger.configuration.LogFileInfo;
 import combatlogx.expansion.logger.configuration.LogOptions;
+import combatlogx.expansion.logger.configuration.LogTemplate;
 import combatlogx.expansion.logger.configuration.LogType;
 import combatlogx.expansion.logger.configuration.LoggerConfiguration;
+import combatlogx.expansion.logger.writer.LogWriter;
 
 public final class ListenerLogger extends ExpansionListener {
     private final LoggerExpansion expansion;
+    private final ThreadLocal<StringBuilder> builderLocal;
 
     public ListenerLogger(@NotNull LoggerExpansion expansion) {
         super(expansion);
         this.expansion = expansion;
+        this.builderLocal = ThreadLocal.withInitial(StringBuilder::new);
     }
 
     private @NotNull LoggerExpansion getLoggerExpansion() {
@@ -70,17 +63,12 @@ public final class ListenerLogger extends ExpansionListener {
         TagReason tagReason = e.getTagReason();
         TagType tagType = e.getTagType();
 
-        String format = getFormat(LogType.PRE_TAG);
         String playerName = player.getName();
         String enemyName = getEntityName(enemy);
         String tagReasonName = tagReason.name();
         String tagTypeName = tagType.name();
         String cancelledString = Boolean.toString(e.isCancelled());
-
-        String message = format.replace("{player_name}", playerName).replace("{enemy_name}", enemyName)
-                .replace("{tag_reason}", tagReasonName).replace("{tag_type}", tagTypeName)
-                .replace("{was_cancelled}", cancelledString);
-        appendLog(message);
+        appendLog(LogType.PRE_TAG, playerName, enemyName, tagReasonName, tagTypeName, cancelledString);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -94,15 +82,11 @@ public final class ListenerLogger extends ExpansionListener {
         TagReason tagReason = e.getTagReason();
         TagType tagType = e.getTagType();
 
-        String format = getFormat(LogType.TAG);
         String playerName = player.getName();
         String enemyName = getEntityName(enemy);
         String tagReasonName = tagReason.name();
         String tagTypeName = tagType.name();
-
-        String message = format.replace("{player_name}", playerName).replace("{enemy_name}", enemyName)
-                .replace("{tag_reason}", tagReasonName).replace("{tag_type}", tagTypeName);
-        appendLog(message);
+        appendLog(LogType.TAG, playerName, enemyName, tagReasonName, tagTypeName);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -116,17 +100,12 @@ public final class ListenerLogger extends ExpansionListener {
         TagReason tagReason = e.getTagReason();
         TagType tagType = e.getTagType();
 
-        String format = getFormat(LogType.RE_TAG);
         String playerName = player.getName();
         String enemyName = getEntityName(enemy);
         String tagReasonName = tagReason.name();
         String tagTypeName = tagType.name();
         String cancelledString = Boolean.toString(e.isCancelled());
-
-        String message = format.replace("{player_name}", playerName).replace("{enemy_name}", enemyName)
-                .replace("{tag_reason}", tagReasonName).replace("{tag_type}", tagTypeName)
-                .replace("{was_cancelled}", cancelledString);
-        appendLog(message);
+        appendLog(LogType.RE_TAG, playerName, enemyName, tagReasonName, tagTypeName, cancelledString);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -139,14 +118,10 @@ public final class ListenerLogger extends ExpansionListener {
         UntagReason untagReason = e.getUntagReason();
         boolean isExpire = untagReason.isExpire();
 
-        String format = getFormat(LogType.UNTAG);
         String playerName = player.getName();
         String untagReasonName = untagReason.name();
         String expireString = Boolean.toString(isExpire);
-
-        String message = format.replace("{player_name}", playerName).replace("{untag_reason}", untagReasonName)
-                .replace("{was_expire}", expireString);
-        appendLog(message);
+        appendLog(LogType.UNTAG, playerName, untagReasonName, expireString);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -159,15 +134,11 @@ public final class ListenerLogger extends ExpansionListener {
         List<Entity> enemyList = e.getEnemies();
         UntagReason untagReason = e.getPunishReason();
 
-        String format = getFormat(LogType.PUNISH);
         String playerName = player.getName();
         String enemyNames = enemyList.stream().map(this::getEntityName).collect(Collectors.joining(", "));
         String untagReasonName = untagReason.name();
         String cancelledString = Boolean.toString(e.isCancelled());
-
-        String message = format.replace("{player_name}", playerName).replace("{enemy_name}", enemyNames)
-                .replace("{punish_reason}", untagReasonName).replace("{was_cancelled}", cancelledString);
-        appendLog(message);
+        appendLog(LogType.PUNISH, playerName, enemyNames, untagReasonName, cancelledString);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -184,12 +155,7 @@ public final class ListenerLogger extends ExpansionListener {
         String damagerType = damager.getType().name();
         String damagerName = getEntityName(damager);
         String wasCancelled = Boolean.toString(e.isCancelled());
-
-        String format = getFormat(LogType.ENTITY_DAMAGE_EVENT);
-        String message = format.replace("{damaged_type}", damagedType)
-                .replace("{damaged_name}", damagedName).replace("{damager_type}", damagerType)
-                .replace("{damager_name}", damagerName).replace("{was_cancelled}", wasCancelled);
-        appendLog(message);
+        appendLog(LogType.ENTITY_DAMAGE_EVENT, damagedType, damagedName, damagerType, damagerName, wasCancelled);
     }
 
     private @NotNull String getEntityName(@Nullable Entity entity) {
@@ -213,49 +179,25 @@ public final class ListenerLogger extends ExpansionListener {
         return !logType.isEnabled(logOptions);
     }
 
-    private @NotNull String getFormat(@NotNull LogType logType) {
+    /**
+     * Render a log entry from the compiled template of a log type and queue it for writing.
+     *
+     * @param logType The type of log entry.
+     * @param values  The placeholder values, in the order of {@link LogType#getPlaceholders()}.
+     */
+    private void appendLog(@NotNull LogType logType, String @NotNull ... values) {
         LoggerExpansion expansion = getLoggerExpansion();
         LoggerConfiguration configuration = expansion.getConfiguration();
         LogEntryOptions logEntryOptions = configuration.getLogEntryOptions();
-        String baseFormat = logType.getFormat(logEntryOptions);
-
+        LogTemplate template = logType.getTemplate(logEntryOptions);
         String prefix = logEntryOptions.getCurrentPrefix();
-        return (prefix + " " + baseFormat);
-    }
-
-    private @NotNull File getLogFile() {
-        LoggerExpansion expansion = getLoggerExpansion();
-        LoggerConfiguration configuration = expansion.getConfiguration();
-        LogFileInfo logFileInfo = configuration.getLogFileInfo();
-
-        File dataFolder = expansion.getDataFolder();
-        return logFileInfo.getCurrentLogFile(dataFolder);
-    }
-
-    private void appendLog(String @NotNull ... messageArray) {
-        try {
-            Path logPath = getLogPath();
-            List<String> messageList = new ArrayList<>();
-            Collections.addAll(messageList, messageArray);
-            Files.write(logPath, messageList, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        } catch (IOException ex) {
-            Logger logger = getExpansionLogger();
-            logger.log(Level.WARNING, "Failed to write to a custom log file:", ex);
-        }
-    }
 
-    private @NotNull Path getLogPath() throws IOException {
-        LoggerExpansion expansion = getLoggerExpansion();
-        File dataFolder = expansion.getDataFolder();
-        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
-            throw new IOException("Failed to create expansion folder.");
-        }
-
-        File logFile = getLogFile();
-        if (!logFile.exists() && !logFile.createNewFile()) {
-            throw new IOException("Failed to create custom log file.");
-        }
+        StringBuilder builder = this.builderLocal.get();
+        builder.setLength(0);
+        builder.append(prefix).append(' ');
+        template.appendTo(builder, values);
 
-        return logFile.toPath();
+        LogWriter logWriter = expansion.getLogWriter();
+        logWriter.append(builder.toString());
     }
 }
@@ -0,0 +1,270 @@
+package combatlogx.expansion.logger.writer;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.NotNull;
+
+import combatlogx.expansion.logger.LoggerExpansion;
+import combatlogx.expansion.logger.configuration.FullQueuePolicy;
+import combatlogx.expansion.logger.configuration.LogFileInfo;
+import combatlogx.expansion.logger.configuration.LogWriterOptions;
+import combatlogx.expansion.logger.configuration.LoggerConfiguration;
+
+/**
+ * Writes log entries to the current log file from a background thread.
+ * Entries are queued by the listener and written in batches,
+ * so the server thread never has to open or flush the log file.
+ */
+public final class LogWriter implements Runnable {
+    private static final long BLOCK_CHECK_MILLIS = 100L;
+
+    private final LoggerExpansion expansion;
+    private final BlockingQueue<String> queue;
+    private final FullQueuePolicy fullQueuePolicy;
+    private final long flushIntervalMillis;
+    private final int flushSize;
+    private final AtomicLong droppedCount;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    private File currentFile;
+    private BufferedWriter writer;
+    private long lastFlushMillis;
+    private int pendingSize;
+
+    public LogWriter(@NotNull LoggerExpansion expansion) {
+        this.expansion = expansion;
+
+        LoggerConfiguration configuration = expansion.getConfiguration();
+        LogWriterOptions options = configuration.getLogWriterOptions();
+        this.queue = new ArrayBlockingQueue<>(options.getQueueSize());
+        this.fullQueuePolicy = options.getFullQueuePolicy();
+        this.flushIntervalMillis = options.getFlushIntervalMillis();
+        this.flushSize = options.getFlushSize();
+        this.droppedCount = new AtomicLong(0L);
+
+        this.running = false;
+        this.thread = null;
+        this.currentFile = null;
+        this.writer = null;
+        this.lastFlushMillis = 0L;
+        this.pendingSize = 0;
+    }
+
+    public void start() {
+        if (this.running) {
+            return;
+        }
+
+        this.running = true;
+        this.thread = new Thread(this, "CombatLogX Logger Writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stop the writer thread, write all remaining queued entries, and close the log file.
+     */
+    public void stop() {
+        if (!this.running) {
+            return;
+        }
+
+        this.running = false;
+        Thread thread = this.thread;
+        this.thread = null;
+
+        try {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5L));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queue a log entry to be written by the background thread.
+     *
+     * @param message The full log line, without a line separator.
+     */
+    public void append(@NotNull String message) {
+        if (!this.running) {
+            return;
+        }
+
+        if (this.fullQueuePolicy == FullQueuePolicy.BLOCK) {
+            appendBlocking(message);
+            return;
+        }
+
+        if (!this.queue.offer(message)) {
+            this.droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Wait for space in the queue, but give up once the writer is stopped,
+     * so a producer is never stuck after the writer thread drained the queue and exited.
+     */
+    private void appendBlocking(@NotNull String message) {
+        try {
+            while (this.running) {
+                if (this.queue.offer(message, BLOCK_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        List<String> batch = new ArrayList<>();
+        while (this.running) {
+            try {
+                String message = this.queue.poll(this.flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (message != null) {
+                    batch.add(message);
+                    this.queue.drainTo(batch);
+                    write(batch);
+                    batch.clear();
+                }
+
+                checkFlush();
+                checkDropped();
+            } catch (InterruptedException ex) {
+                break;
+            }
+        }
+
+        this.queue.drainTo(batch);
+        write(batch);
+        checkDropped();
+        close();
+    }
+
+    private @NotNull LoggerExpansion getLoggerExpansion() {
+        return this.expansion;
+    }
+
+    private void write(@NotNull List<String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            BufferedWriter writer = getWriter();
+            for (String message : batch) {
+                writer.write(message);
+                writer.newLine();
+                this.pendingSize += message.length();
+            }
+        } catch (IOException ex) {
+            Logger logger = getLogger();
+            logger.log(Level.WARNING, "Failed to write to a custom log file:", ex);
+            close();
+        }
+    }
+
+    private void checkFlush() {
+        BufferedWriter writer = this.writer;
+        if (writer == null || this.pendingSize <= 0) {
+            return;
+        }
+
+        long systemMillis = System.currentTimeMillis();
+        long flushMillis = (this.lastFlushMillis + this.flushIntervalMillis);
+        if (this.pendingSize < this.flushSize && systemMillis < flushMillis) {
+            return;
+        }
+
+        try {
+            writer.flush();
+            this.pendingSize = 0;
+            this.lastFlushMillis = systemMillis;
+        } catch (IOException ex) {
+            Logger logger = getLogger();
+            logger.log(Level.WARNING, "Failed to flush a custom log file:", ex);
+            close();
+        }
+    }
+
+    private void checkDropped() {
+        long droppedCount = this.droppedCount.getAndSet(0L);
+        if (droppedCount > 0L) {
+            Logger logger = getLogger();
+            logger.warning("Dropped " + droppedCount + " log entries because the writer queue was full.");
+        }
+    }
+
+    private @NotNull BufferedWriter getWriter() throws IOException {
+        File logFile = getLogFile();
+        if (this.writer != null && logFile.equals(this.currentFile)) {
+            return this.writer;
+        }
+
+        // The date in the file name changed, or the writer was never opened.
+        close();
+
+        File dataFolder = logFile.getParentFile();
+        if (dataFolder != null && !dataFolder.exists() && !dataFolder.mkdirs()) {
+            throw new IOException("Failed to create expansion folder.");
+        }
+
+        // A stream is used instead of a channel, so interrupting the writer thread can't close the file early.
+        FileOutputStream outputStream = new FileOutputStream(logFile, true);
+        OutputStreamWriter outputWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(outputWriter);
+        this.currentFile = logFile;
+        this.lastFlushMillis = System.currentTimeMillis();
+        this.pendingSize = 0;
+        return this.writer;
+    }
+
+    private @NotNull File getLogFile() {
+        LoggerExpansion expansion = getLoggerExpansion();
+        LoggerConfiguration configuration = expansion.getConfiguration();
+        LogFileInfo logFileInfo = configuration.getLogFileInfo();
+
+        File dataFolder = expansion.getDataFolder();
+        return logFileInfo.getCurrentLogFile(dataFolder);
+    }
+
+    private void close() {
+        BufferedWriter writer = this.writer;
+        this.writer = null;
+        this.currentFile = null;
+        this.pendingSize = 0;
+
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            Logger logger = getLogger();
+            logger.log(Level.WARNING, "Failed to close a custom log file:", ex);
+        }
+    }
+
+    private @NotNull Logger getLogger() {
+        LoggerExpansion expansion = getLoggerExpansion();
+        return expansion.getLogger();
+    }
+}
@@ -1,9 +1,7 @@
 package combatlogx.expansion.loot.protection.listener;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
@@ -41,7 +39,9 @@ import com.github.sirblobman.combatlogx.api.configuration.PunishConfiguration;
 import com.github.sirblobman.combatlogx.api.event.PlayerPunishEvent;
 import com.github.sirblobman.combatlogx.api.event.PlayerUntagEvent;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionListener;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
 import com.github.sirblobman.combatlogx.api.manager.IDeathManager;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
 import com.github.sirblobman.combatlogx.api.object.KillTime;
 import com.github.sirblobman.combatlogx.api.object.UntagReason;
 
@@ -53,7 +53,7 @@ import net.jodah.expiringmap.ExpiringMap;
 
 public class ListenerLootProtection extends ExpansionListener {
     private final LootProtectionExpansion expansion;
-    private final Set<UUID> messageCooldownSet;
+    private final CooldownKey messageCooldownKey;
     private final ExpiringMap<UUID, ProtectedItem> protectedItemMap;
     private final Map<BlockLocation, ConcurrentLinkedQueue<ProtectedItem>> pendingProtectionMap;
     private final Map<UUID, UUID> enemyMap;
@@ -63,11 +63,11 @@ public class ListenerLootProtection extends ExpansionListener {
         this.expansion = expansion;
 
         LootProtectionConfiguration configuration = getConfiguration();
-        int messageCooldown = configuration.getMessageCooldown();
         int lootProtectionTime = configuration.getLootProtectionTime();
 
-        this.messageCooldownSet = Collections.newSetFromMap(ExpiringMap.builder()
-                .expiration(messageCooldown, TimeUnit.SECONDS).build());
+        ICombatLogX plugin = getCombatLogX();
+        ICooldownManager cooldownManager = plugin.getCooldownManager();
+        this.messageCooldownKey = cooldownManager.getKey("loot-protection:message");
         this.pendingProtectionMap = ExpiringMap.builder().expiration(lootProtectionTime, TimeUnit.SECONDS).build();
         this.protectedItemMap = ExpiringMap.builder().expiration(lootProtectionTime, TimeUnit.SECONDS).build();
         this.enemyMap = ExpiringMap.builder().expiration(lootProtectionTime, TimeUnit.SECONDS).build();
@@ -97,14 +97,20 @@ public class ListenerLootProtection extends ExpansionListener {
 
         if (!protectedItem.getOwnerUUID().equals(playerId) && !queryPickupEvent.isCancelled()) {
             e.setCancelled(true);
-            if (!this.messageCooldownSet.contains(playerId)) {
+            ICombatLogX plugin = getCombatLogX();
+            ICooldownManager cooldownManager = plugin.getCooldownManager();
+            if (!cooldownManager.hasCooldown(playerId, this.messageCooldownKey)) {
                 long expireMillisLeft = this.protectedItemMap.getExpectedExpiration(itemEntityId);
                 long expireSecondsLeft = TimeUnit.MILLISECONDS.toSeconds(expireMillisLeft);
 
                 Replacer replacer = new LongReplacer("{time}", expireSecondsLeft);
                 LanguageManager languageManager = getLanguageManager();
                 languageManager.sendMessageWithPrefix(player, "expansion.loot-protection.protected", replacer);
-                this.messageCooldownSet.add(playerId);
+
+                LootProtectionConfiguration configuration = getConfiguration();
+                int messageCooldown = configuration.getMessageCooldown();
+                long messageCooldownMillis = TimeUnit.SECONDS.toMillis(messageCooldown);
+                cooldownManager.addCooldown(playerId, this.messageCooldownKey, messageCooldownMillis);
             }
         }
     }
@@ -140,7 +146,7 @@ public class ListenerLootProtection extends ExpansionListener {
 
         if (killTime == KillTime.JOIN) {
             playerData.set("loot-protection-enemy", previousEnemyId.toString());
-            playerDataManager.save(player);
+            savePlayerData(player);
             return;
         }
 
@@ -197,7 +203,7 @@ public class ListenerLootProtection extends ExpansionListener {
 
             if (enemyIdString != null) {
                 playerData.set("loot-protection-enemy", null);
-                playerDataManager.save(player);
+                savePlayerData(player);
                 enemyId = UUID.fromString(enemyIdString);
             }
         }
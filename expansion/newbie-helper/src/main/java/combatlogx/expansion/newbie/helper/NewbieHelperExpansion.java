@@ -1,7 +1,12 @@
 package combatlogx.expansion.newbie.helper;
 
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
 import org.jetbrains.annotations.NotNull;
 
+import org.bukkit.entity.Player;
+
 import com.github.sirblobman.api.configuration.ConfigurationManager;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.expansion.Expansion;
@@ -15,6 +20,7 @@ import combatlogx.expansion.newbie.helper.listener.ListenerJoin;
 import combatlogx.expansion.newbie.helper.manager.CooldownManager;
 import combatlogx.expansion.newbie.helper.manager.PVPManager;
 import combatlogx.expansion.newbie.helper.manager.ProtectionManager;
+import combatlogx.expansion.newbie.helper.manager.StatusUpdater;
 import combatlogx.expansion.newbie.helper.placeholder.NewbieHelperPlaceholderExpansion;
 
 public final class NewbieHelperExpansion extends Expansion {
@@ -24,6 +30,7 @@ public final class NewbieHelperExpansion extends Expansion {
     private final PVPManager pvpManager;
     private final ProtectionManager protectionManager;
     private final CooldownManager cooldownManager;
+    private final Set<StatusUpdater> statusUpdaterSet;
 
     public NewbieHelperExpansion(ICombatLogX plugin) {
         super(plugin);
@@ -34,6 +41,7 @@ public final class NewbieHelperExpansion extends Expansion {
         this.pvpManager = new PVPManager(this);
         this.protectionManager = new ProtectionManager(this);
         this.cooldownManager = new CooldownManager(this);
+        this.statusUpdaterSet = new CopyOnWriteArraySet<>();
     }
 
     @Override
@@ -87,6 +95,23 @@ public final class NewbieHelperExpansion extends Expansion {
         return this.cooldownManager;
     }
 
+    public void addStatusUpdater(@NotNull StatusUpdater updater) {
+        this.statusUpdaterSet.add(updater);
+    }
+
+    public void removeStatusUpdater(@NotNull StatusUpdater updater) {
+        this.statusUpdaterSet.remove(updater);
+    }
+
+    /**
+     * Notify all status updaters that the protection or PVP toggle of a player was changed.
+     */
+    public void updateStatus(@NotNull Player player) {
+        for (StatusUpdater updater : this.statusUpdaterSet) {
+            updater.update(player);
+        }
+    }
+
     private void registerPlaceholderExpansion() {
         ICombatLogX plugin = getPlugin();
         IPlaceholderManager placeholderManager = plugin.getPlaceholderManager();
@@ -1,8 +1,6 @@
 package combatlogx.expansion.newbie.helper.manager;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.NotNull;
@@ -14,17 +12,25 @@ import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.api.language.replacer.LongReplacer;
 import com.github.sirblobman.api.language.replacer.Replacer;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
 
 import combatlogx.expansion.newbie.helper.NewbieHelperExpansion;
 import combatlogx.expansion.newbie.helper.configuration.NewbieHelperConfiguration;
 
+/**
+ * The PVP toggle cooldown is stored in the shared cooldown manager of CombatLogX.
+ * It is kept when a player leaves, so the cooldown can not be skipped by logging out.
+ */
 public final class CooldownManager {
     private final NewbieHelperExpansion expansion;
-    private final Map<UUID, Long> cooldownMap;
+    private final CooldownKey cooldownKey;
 
     public CooldownManager(@NotNull NewbieHelperExpansion expansion) {
         this.expansion = expansion;
-        this.cooldownMap = new ConcurrentHashMap<>();
+
+        ICooldownManager cooldownManager = getCooldownManager();
+        this.cooldownKey = cooldownManager.getKey("newbie-helper:pvp-toggle", true);
     }
 
     public boolean hasCooldown(@NotNull Player player) {
@@ -35,18 +41,9 @@ public final class CooldownManager {
         }
 
         UUID playerId = player.getUniqueId();
-        if (!this.cooldownMap.containsKey(playerId)) {
-            return false;
-        }
-
-        long systemMillis = System.currentTimeMillis();
-        long expireMillis = this.cooldownMap.get(playerId);
-        if (systemMillis >= expireMillis) {
-            removeCooldown(player);
-            return false;
-        }
-
-        return true;
+        ICooldownManager cooldownManager = getCooldownManager();
+        CooldownKey cooldownKey = getCooldownKey();
+        return cooldownManager.hasCooldown(playerId, cooldownKey);
     }
 
     public void addCooldown(@NotNull Player player) {
@@ -69,17 +66,23 @@ public final class CooldownManager {
 
     public void setCooldownExpireMillis(@NotNull Player player, long expireMillis) {
         UUID playerId = player.getUniqueId();
-        this.cooldownMap.put(playerId, expireMillis);
+        ICooldownManager cooldownManager = getCooldownManager();
+        CooldownKey cooldownKey = getCooldownKey();
+        cooldownManager.setExpireMillis(playerId, cooldownKey, expireMillis);
     }
 
     public long getCooldownExpireMillis(@NotNull Player player) {
         UUID playerId = player.getUniqueId();
-        return this.cooldownMap.getOrDefault(playerId, 0L);
+        ICooldownManager cooldownManager = getCooldownManager();
+        CooldownKey cooldownKey = getCooldownKey();
+        return cooldownManager.getExpireMillis(playerId, cooldownKey);
     }
 
     public void removeCooldown(@NotNull Player player) {
         UUID playerId = player.getUniqueId();
-        this.cooldownMap.remove(playerId);
+        ICooldownManager cooldownManager = getCooldownManager();
+        CooldownKey cooldownKey = getCooldownKey();
+        cooldownManager.removeCooldown(playerId, cooldownKey);
     }
 
     public void sendCooldownMessage(@NotNull Player player) {
@@ -117,6 +120,15 @@ public final class CooldownManager {
         return combatLogX.getLanguageManager();
     }
 
+    private @NotNull ICooldownManager getCooldownManager() {
+        ICombatLogX combatLogX = getCombatLogX();
+        return combatLogX.getCooldownManager();
+    }
+
+    private @NotNull CooldownKey getCooldownKey() {
+        return this.cooldownKey;
+    }
+
     private long getCooldownSeconds() {
         NewbieHelperConfiguration configuration = getConfiguration();
         return configuration.getPvpToggleCooldown();
@@ -3,15 +3,15 @@ package combatlogx.expansion.newbie.helper.manager;
 import org.jetbrains.annotations.NotNull;
 
 import org.bukkit.command.CommandSender;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.api.language.replacer.ComponentReplacer;
 import com.github.sirblobman.api.language.replacer.Replacer;
 import com.github.sirblobman.api.language.replacer.StringReplacer;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
 
 import combatlogx.expansion.newbie.helper.NewbieHelperExpansion;
@@ -29,9 +29,12 @@ public final class PVPManager {
             return;
         }
 
-        YamlConfiguration playerData = getPlayerData(player);
-        playerData.set("newbie-helper.pvp-toggle", pvp);
-        savePlayerData(player);
+        CombatPlayerState state = getState(player);
+        state.setNewbiePvpToggle(pvp);
+        saveState(state);
+
+        NewbieHelperExpansion expansion = getExpansion();
+        expansion.updateStatus(player);
     }
 
     public boolean isDisabled(@NotNull Player player) {
@@ -42,8 +45,9 @@ public final class PVPManager {
         NewbieHelperConfiguration configuration = getConfiguration();
         boolean defaultPvpState = configuration.getPvpToggleDefaultStatus();
 
-        YamlConfiguration playerData = getPlayerData(player);
-        return !playerData.getBoolean("newbie-helper.pvp-toggle", defaultPvpState);
+        CombatPlayerState state = getState(player);
+        Boolean pvpToggle = state.getNewbiePvpToggle();
+        return !(pvpToggle != null ? pvpToggle : defaultPvpState);
     }
 
     public void sendToggleMessage(@NotNull Player player) {
@@ -90,19 +94,19 @@ public final class PVPManager {
         return combatLogX.getLanguageManager();
     }
 
-    private @NotNull PlayerDataManager getPlayerDataManager() {
+    private @NotNull IPlayerStateManager getPlayerStateManager() {
         ICombatLogX combatLogX = getCombatLogX();
-        return combatLogX.getPlayerDataManager();
+        return combatLogX.getPlayerStateManager();
     }
 
-    private @NotNull YamlConfiguration getPlayerData(@NotNull Player player) {
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        return playerDataManager.get(player);
+    private @NotNull CombatPlayerState getState(@NotNull Player player) {
+        IPlayerStateManager playerStateManager = getPlayerStateManager();
+        return playerStateManager.getState(player);
     }
 
-    private void savePlayerData(@NotNull Player player) {
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        playerDataManager.save(player);
+    private void saveState(@NotNull CombatPlayerState state) {
+        IPlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.saveState(state);
     }
 
     private boolean isNPC(@NotNull Player player) {
@@ -2,12 +2,12 @@ package combatlogx.expansion.newbie.helper.manager;
 
 import org.jetbrains.annotations.NotNull;
 
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 
 import combatlogx.expansion.newbie.helper.NewbieHelperExpansion;
 import combatlogx.expansion.newbie.helper.configuration.NewbieHelperConfiguration;
@@ -24,16 +24,13 @@ public final class ProtectionManager {
             return;
         }
 
-        YamlConfiguration playerData = getPlayerData(player);
-        if (protect) {
-            long newExpireTime = getProtectionExpireTime();
-            playerData.set("newbie-helper.protection-expire-time", newExpireTime);
-        } else {
-            playerData.set("newbie-helper.protection-expire-time", null);
-        }
+        CombatPlayerState state = getState(player);
+        long newExpireTime = (protect ? getProtectionExpireTime() : 0L);
+        state.setNewbieProtection(protect, newExpireTime);
+        saveState(state);
 
-        playerData.set("newbie-helper.protected", protect);
-        savePlayerData(player);
+        NewbieHelperExpansion expansion = getExpansion();
+        expansion.updateStatus(player);
     }
 
     public boolean isProtected(@NotNull Player player) {
@@ -41,12 +38,12 @@ public final class ProtectionManager {
             return false;
         }
 
-        YamlConfiguration configuration = getPlayerData(player);
-        if (!configuration.getBoolean("newbie-helper.protected")) {
+        CombatPlayerState state = getState(player);
+        if (!state.isNewbieProtected()) {
             return false;
         }
 
-        long expireTime = configuration.getLong("newbie-helper.protection-expire-time", 0L);
+        long expireTime = state.getNewbieProtectionExpireMillis();
         long systemTime = System.currentTimeMillis();
         if (systemTime < expireTime) {
             return true;
@@ -63,12 +60,8 @@ public final class ProtectionManager {
             return 0L;
         }
 
-        YamlConfiguration configuration = getPlayerData(player);
-        if (!configuration.getBoolean("newbie-helper.protected")) {
-            return 0L;
-        }
-
-        return configuration.getLong("newbie-helper.protection-expire-time", 0L);
+        CombatPlayerState state = getState(player);
+        return state.getNewbieProtectionExpireMillis();
     }
 
     private long getProtectionExpireTime() {
@@ -96,19 +89,19 @@ public final class ProtectionManager {
         return combatLogX.getLanguageManager();
     }
 
-    private @NotNull PlayerDataManager getPlayerDataManager() {
+    private @NotNull IPlayerStateManager getPlayerStateManager() {
         ICombatLogX combatLogX = getCombatLogX();
-        return combatLogX.getPlayerDataManager();
+        return combatLogX.getPlayerStateManager();
     }
 
-    private @NotNull YamlConfiguration getPlayerData(@NotNull Player player) {
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        return playerDataManager.get(player);
+    private @NotNull CombatPlayerState getState(@NotNull Player player) {
+        IPlayerStateManager playerStateManager = getPlayerStateManager();
+        return playerStateManager.getState(player);
     }
 
-    private void savePlayerData(@NotNull Player player) {
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        playerDataManager.save(player);
+    private void saveState(@NotNull CombatPlayerState state) {
+        IPlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.saveState(state);
     }
 
     private boolean isNPC(@NotNull Player player) {
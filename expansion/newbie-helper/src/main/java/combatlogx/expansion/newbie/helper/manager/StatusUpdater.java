@@ -0,0 +1,13 @@
+package combatlogx.expansion.newbie.helper.manager;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Notified after the newbie protection or the PVP toggle of a player was changed.
+ * Updaters can be called from any thread, so they should only update cached values.
+ */
+public interface StatusUpdater {
+    void update(@NotNull Player player);
+}
@@ -9,16 +9,19 @@ import com.github.sirblobman.api.configuration.IConfigurable;
 public final class ScoreboardConfiguration implements IConfigurable {
     private boolean enabled;
     private boolean savePrevious;
+    private int poolSize;
 
     public ScoreboardConfiguration() {
         setEnabled(true);
         setSavePrevious(true);
+        setPoolSize(16);
     }
 
     @Override
     public void load(@NotNull ConfigurationSection config) {
         setEnabled(config.getBoolean("enabled", true));
         setSavePrevious(config.getBoolean("save-previous", true));
+        setPoolSize(config.getInt("pool-size", 16));
     }
 
     public boolean isEnabled() {
@@ -36,4 +39,12 @@ public final class ScoreboardConfiguration implements IConfigurable {
     public void setSavePrevious(boolean savePrevious) {
         this.savePrevious = savePrevious;
     }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = Math.max(0, poolSize);
+    }
 }
@@ -2,6 +2,7 @@ package combatlogx.expansion.scoreboard;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Locale;
 import java.util.logging.Logger;
 
 import org.jetbrains.annotations.NotNull;
@@ -67,6 +68,15 @@ public final class ScoreboardExpansion extends Expansion {
 
         CustomScoreboardManager scoreboardManager = getScoreboardManager();
         scoreboardManager.removeAll();
+
+        long hitCount = scoreboardManager.getPoolHitCount();
+        long missCount = scoreboardManager.getPoolMissCount();
+        double hitRate = scoreboardManager.getPoolHitRate();
+        String message = String.format(Locale.US, "Scoreboard pool: %s reused, %s created, %.1f%% hit rate.",
+                hitCount, missCount, hitRate);
+
+        ICombatLogX plugin = getPlugin();
+        plugin.printDebug(message);
     }
 
     @Override
@@ -1,36 +1,47 @@
 package combatlogx.expansion.scoreboard.manager;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import org.bukkit.Bukkit;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
 import org.bukkit.scoreboard.Scoreboard;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
+import com.github.sirblobman.api.folia.FoliaHelper;
+import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 
 import combatlogx.expansion.scoreboard.ScoreboardConfiguration;
 import combatlogx.expansion.scoreboard.ScoreboardExpansion;
 import combatlogx.expansion.scoreboard.scoreboard.CustomScoreboard;
 
+/**
+ * Manages the combat scoreboards of players.
+ * Updates can be requested from any thread, but the scoreboard state of a player is only changed on the
+ * scheduler that owns that player. Requests from other threads are posted to that scheduler as tasks.
+ */
 public final class CustomScoreboardManager {
     private final ScoreboardExpansion expansion;
-    private final Map<UUID, Scoreboard> oldScoreboardMap;
-    private final Map<UUID, CustomScoreboard> combatScoreboardMap;
+    private final Map<UUID, PlayerScoreboardState> stateMap;
+    private final Set<UUID> pendingUpdateSet;
+    private final ScoreboardPool scoreboardPool;
 
     public CustomScoreboardManager(@NotNull ScoreboardExpansion expansion) {
         this.expansion = expansion;
-        this.oldScoreboardMap = new HashMap<>();
-        this.combatScoreboardMap = new HashMap<>();
+        this.stateMap = new ConcurrentHashMap<>();
+        this.pendingUpdateSet = ConcurrentHashMap.newKeySet();
+        this.scoreboardPool = new ScoreboardPool();
     }
 
     public @NotNull ScoreboardExpansion getExpansion() {
@@ -42,9 +53,14 @@ public final class CustomScoreboardManager {
         return expansion.getPlugin();
     }
 
-    private @NotNull PlayerDataManager getPlayerDataManager() {
+    private @NotNull IPlayerStateManager getPlayerStateManager() {
         ICombatLogX combatLogX = getCombatLogX();
-        return combatLogX.getPlayerDataManager();
+        return combatLogX.getPlayerStateManager();
+    }
+
+    private @NotNull ICombatManager getCombatManager() {
+        ICombatLogX combatLogX = getCombatLogX();
+        return combatLogX.getCombatManager();
     }
 
     private @NotNull ScoreboardConfiguration getConfiguration() {
@@ -59,9 +75,9 @@ public final class CustomScoreboardManager {
 
     private boolean isDisabled(@NotNull Player player) {
         if (isGlobalEnabled()) {
-            PlayerDataManager playerDataManager = getPlayerDataManager();
-            YamlConfiguration configuration = playerDataManager.get(player);
-            return !configuration.getBoolean("scoreboard", true);
+            IPlayerStateManager playerStateManager = getPlayerStateManager();
+            CombatPlayerState state = playerStateManager.getState(player);
+            return !state.isScoreboardEnabled();
         }
 
         return true;
@@ -73,69 +89,153 @@ public final class CustomScoreboardManager {
     }
 
     public void updateScoreboard(@NotNull Player player) {
+        // Only one update per player needs to be waiting, the update always uses the latest tag state.
         UUID playerId = player.getUniqueId();
-        if (isDisabled(player)) {
-            removeScoreboard(player);
+        if (isOwnerThread() || this.pendingUpdateSet.add(playerId)) {
+            postAction(player, ScoreboardAction.UPDATE);
+        }
+    }
+
+    public void removeScoreboard(@NotNull Player player) {
+        // A waiting update task is dropped by the scheduler if the player leaves, so it must not block later updates.
+        UUID playerId = player.getUniqueId();
+        this.pendingUpdateSet.remove(playerId);
+        postAction(player, ScoreboardAction.REMOVE);
+    }
+
+    /**
+     * Remove the combat scoreboard from all online players right away.
+     * This is only used while the expansion is disabled, because scheduled tasks would not run anymore.
+     */
+    public void removeAll() {
+        Collection<? extends Player> onlinePlayerCollection = Bukkit.getOnlinePlayers();
+        for (Player player : onlinePlayerCollection) {
+            handleRemove(player);
+        }
+
+        this.stateMap.clear();
+        this.pendingUpdateSet.clear();
+        this.scoreboardPool.clear();
+    }
+
+    /**
+     * @return The amount of times a scoreboard was reused from the pool.
+     */
+    public long getPoolHitCount() {
+        return this.scoreboardPool.getHitCount();
+    }
+
+    /**
+     * @return The amount of times a new scoreboard had to be created.
+     */
+    public long getPoolMissCount() {
+        return this.scoreboardPool.getMissCount();
+    }
+
+    /**
+     * @return The percentage of scoreboards that were reused from the pool, from 0 to 100.
+     */
+    public double getPoolHitRate() {
+        return this.scoreboardPool.getHitRate();
+    }
+
+    /**
+     * On a normal server the main thread owns every player, so actions from the main thread can run right away.
+     * On Folia, each player is owned by a region thread, so actions are always posted to the entity scheduler.
+     */
+    private boolean isOwnerThread() {
+        ICombatLogX plugin = getCombatLogX();
+        FoliaHelper foliaHelper = plugin.getFoliaHelper();
+        return (!foliaHelper.isFolia() && Bukkit.isPrimaryThread());
+    }
+
+    private void postAction(@NotNull Player player, @NotNull ScoreboardAction action) {
+        if (isOwnerThread()) {
+            handleAction(player, action);
             return;
         }
 
-        CustomScoreboard customScoreboard = this.combatScoreboardMap.getOrDefault(playerId, null);
-        if (customScoreboard == null) {
-            createScoreboard(player);
+        ICombatLogX plugin = getCombatLogX();
+        ScoreboardActionTask task = new ScoreboardActionTask(plugin.getPlugin(), this, player, action);
+        TaskScheduler scheduler = plugin.getFoliaHelper().getScheduler();
+        scheduler.scheduleEntityTask(task);
+    }
+
+    /**
+     * This method must only be called on the scheduler that owns the player.
+     */
+    void handleAction(@NotNull Player player, @NotNull ScoreboardAction action) {
+        switch (action) {
+            case UPDATE:
+                handleUpdate(player);
+                break;
+            case REMOVE:
+                handleRemove(player);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void handleUpdate(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        this.pendingUpdateSet.remove(playerId);
+
+        // An update that was queued before the player was untagged must not create the scoreboard again.
+        ICombatManager combatManager = getCombatManager();
+        if (!combatManager.isInCombat(player) || isDisabled(player)) {
+            handleRemove(player);
             return;
         }
 
+        PlayerScoreboardState state = this.stateMap.computeIfAbsent(playerId, key -> new PlayerScoreboardState());
+        CustomScoreboard customScoreboard = state.getCombatScoreboard();
+        if (customScoreboard == null) {
+            customScoreboard = enableScoreboard(player, state);
+        }
+
         customScoreboard.updateScoreboard();
     }
 
-    private void createScoreboard(@NotNull Player player) {
-        CustomScoreboard customScoreboard = enableScoreboard(player);
-        if (customScoreboard != null) {
-            customScoreboard.updateScoreboard();
+    private void handleRemove(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        PlayerScoreboardState state = this.stateMap.remove(playerId);
+        if (state == null) {
+            return;
         }
-    }
 
-    public void removeScoreboard(@NotNull Player player) {
-        UUID uuid = player.getUniqueId();
-        CustomScoreboard customScoreboard = this.combatScoreboardMap.remove(uuid);
+        CustomScoreboard customScoreboard = state.getCombatScoreboard();
         if (customScoreboard == null) {
             return;
         }
 
-        Scoreboard oldScoreboard = this.oldScoreboardMap.remove(uuid);
+        Scoreboard oldScoreboard = state.getOldScoreboard();
         if (oldScoreboard != null) {
             player.setScoreboard(oldScoreboard);
         } else {
             customScoreboard.disableScoreboard();
         }
-    }
 
-    public void removeAll() {
-        Collection<? extends Player> onlinePlayerCollection = Bukkit.getOnlinePlayers();
-        for (Player player : onlinePlayerCollection) {
-            removeScoreboard(player);
-        }
+        ScoreboardConfiguration configuration = getConfiguration();
+        int poolSize = configuration.getPoolSize();
+        this.scoreboardPool.release(customScoreboard, poolSize);
     }
 
-    private @Nullable CustomScoreboard enableScoreboard(@NotNull Player player) {
-        if (isDisabled(player)) {
-            return null;
-        }
-
-        UUID uuid = player.getUniqueId();
-        savePreviousScoreboard(player);
+    private @NotNull CustomScoreboard enableScoreboard(@NotNull Player player, @NotNull PlayerScoreboardState state) {
+        Scoreboard oldScoreboard = getPreviousScoreboard(player);
+        state.setOldScoreboard(oldScoreboard);
 
         ScoreboardExpansion expansion = getExpansion();
-        CustomScoreboard customScoreboard = new CustomScoreboard(expansion, player);
+        CustomScoreboard customScoreboard = this.scoreboardPool.acquire(expansion, player);
         customScoreboard.enableScoreboard();
 
-        this.combatScoreboardMap.put(uuid, customScoreboard);
+        state.setCombatScoreboard(customScoreboard);
         return customScoreboard;
     }
 
-    private void savePreviousScoreboard(@NotNull Player player) {
+    private @Nullable Scoreboard getPreviousScoreboard(@NotNull Player player) {
         if (shouldIgnorePrevious()) {
-            return;
+            return null;
         }
 
         Scoreboard oldScoreboard = player.getScoreboard();
@@ -143,11 +243,10 @@ public final class CustomScoreboardManager {
         if (objective != null) {
             String objectiveName = objective.getName();
             if (objectiveName.equals("combatlogx")) {
-                return;
+                return null;
             }
         }
 
-        UUID playerId = player.getUniqueId();
-        this.oldScoreboardMap.put(playerId, oldScoreboard);
+        return oldScoreboard;
     }
 }
@@ -0,0 +1,37 @@
+package combatlogx.expansion.scoreboard.manager;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.scoreboard.Scoreboard;
+
+import combatlogx.expansion.scoreboard.scoreboard.CustomScoreboard;
+
+/**
+ * The scoreboard state of a single player.
+ * This state is only changed by tasks that run on the scheduler of the player.
+ */
+final class PlayerScoreboardState {
+    private Scoreboard oldScoreboard;
+    private CustomScoreboard combatScoreboard;
+
+    PlayerScoreboardState() {
+        this.oldScoreboard = null;
+        this.combatScoreboard = null;
+    }
+
+    @Nullable Scoreboard getOldScoreboard() {
+        return this.oldScoreboard;
+    }
+
+    void setOldScoreboard(@Nullable Scoreboard oldScoreboard) {
+        this.oldScoreboard = oldScoreboard;
+    }
+
+    @Nullable CustomScoreboard getCombatScoreboard() {
+        return this.combatScoreboard;
+    }
+
+    void setCombatScoreboard(@Nullable CustomScoreboard combatScoreboard) {
+        this.combatScoreboard = combatScoreboard;
+    }
+}
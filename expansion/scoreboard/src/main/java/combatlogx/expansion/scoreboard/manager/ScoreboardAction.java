@@ -0,0 +1,8 @@
+package combatlogx.expansion.scoreboard.manager;
+
+/**
+ * A change that can be posted to the scheduler of a player.
+ */
+enum ScoreboardAction {
+    UPDATE, REMOVE
+}
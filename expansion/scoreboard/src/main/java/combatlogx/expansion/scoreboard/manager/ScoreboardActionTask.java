@@ -0,0 +1,31 @@
+package combatlogx.expansion.scoreboard.manager;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import com.github.sirblobman.api.folia.details.EntityTaskDetails;
+
+/**
+ * Runs a scoreboard action on the scheduler that owns the player.
+ */
+final class ScoreboardActionTask extends EntityTaskDetails<Player> {
+    private final CustomScoreboardManager scoreboardManager;
+    private final ScoreboardAction action;
+
+    ScoreboardActionTask(@NotNull JavaPlugin plugin, @NotNull CustomScoreboardManager scoreboardManager,
+                         @NotNull Player player, @NotNull ScoreboardAction action) {
+        super(plugin, player);
+        this.scoreboardManager = scoreboardManager;
+        this.action = action;
+    }
+
+    @Override
+    public void run() {
+        Player player = getEntity();
+        if (player != null) {
+            this.scoreboardManager.handleAction(player, this.action);
+        }
+    }
+}
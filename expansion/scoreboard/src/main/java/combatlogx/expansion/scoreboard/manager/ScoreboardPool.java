@@ -0,0 +1,87 @@
+package combatlogx.expansion.scoreboard.manager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.entity.Player;
+
+import combatlogx.expansion.scoreboard.ScoreboardExpansion;
+import combatlogx.expansion.scoreboard.scoreboard.CustomScoreboard;
+
+/**
+ * A bounded pool of unused scoreboards.
+ * Creating a scoreboard registers an objective and sixteen teams, so released scoreboards are reset and reused.
+ * The pool is shared by all players, so it can be used from more than one thread.
+ */
+final class ScoreboardPool {
+    private final Deque<CustomScoreboard> idleScoreboards;
+    private long hitCount;
+    private long missCount;
+
+    ScoreboardPool() {
+        this.idleScoreboards = new ArrayDeque<>();
+        this.hitCount = 0L;
+        this.missCount = 0L;
+    }
+
+    @NotNull CustomScoreboard acquire(@NotNull ScoreboardExpansion expansion, @NotNull Player player) {
+        CustomScoreboard customScoreboard = poll();
+        if (customScoreboard == null) {
+            return new CustomScoreboard(expansion, player);
+        }
+
+        customScoreboard.setPlayer(player);
+        return customScoreboard;
+    }
+
+    /**
+     * @param maxSize The maximum amount of unused scoreboards to keep.
+     */
+    synchronized void release(@NotNull CustomScoreboard customScoreboard, int maxSize) {
+        while (this.idleScoreboards.size() > maxSize) {
+            this.idleScoreboards.pollLast();
+        }
+
+        if (this.idleScoreboards.size() >= maxSize) {
+            return;
+        }
+
+        customScoreboard.resetScoreboard();
+        this.idleScoreboards.addFirst(customScoreboard);
+    }
+
+    private synchronized @Nullable CustomScoreboard poll() {
+        CustomScoreboard customScoreboard = this.idleScoreboards.pollFirst();
+        if (customScoreboard == null) {
+            this.missCount++;
+        } else {
+            this.hitCount++;
+        }
+
+        return customScoreboard;
+    }
+
+    synchronized void clear() {
+        this.idleScoreboards.clear();
+    }
+
+    synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    synchronized double getHitRate() {
+        long totalCount = (this.hitCount + this.missCount);
+        if (totalCount == 0L) {
+            return 0.0D;
+        }
+
+        return (this.hitCount * 100.0D / totalCount);
+    }
+}
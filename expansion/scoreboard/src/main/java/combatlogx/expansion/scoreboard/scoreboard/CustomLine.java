@@ -1,19 +1,26 @@
 package combatlogx.expansion.scoreboard.scoreboard;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import org.bukkit.ChatColor;
 import org.bukkit.scoreboard.Team;
 
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+
 public final class CustomLine {
     private final ChatColor color;
     private final Team team;
     private final int line;
+    private Component value;
+    private boolean visible;
 
     public CustomLine(@NotNull ChatColor color, @NotNull Team team, int line) {
         this.color = color;
         this.team = team;
         this.line = line;
+        this.value = null;
+        this.visible = false;
     }
 
     public @NotNull ChatColor getColor() {
@@ -27,4 +34,26 @@ public final class CustomLine {
     public int getLine() {
         return this.line;
     }
+
+    /**
+     * @return The last value that was sent to the player for this line.
+     */
+    public @Nullable Component getValue() {
+        return this.value;
+    }
+
+    public void setValue(@Nullable Component value) {
+        this.value = value;
+    }
+
+    /**
+     * @return {@code true} if the score for this line is currently shown to the player.
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
 }
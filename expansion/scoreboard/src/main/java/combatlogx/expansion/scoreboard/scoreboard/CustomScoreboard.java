@@ -2,7 +2,6 @@ package combatlogx.expansion.scoreboard.scoreboard;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -25,8 +24,8 @@ import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
+import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderTemplate;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
-import com.github.sirblobman.api.shaded.adventure.text.TextReplacementConfig;
 
 import combatlogx.expansion.scoreboard.ScoreboardExpansion;
 
@@ -34,8 +33,9 @@ public final class CustomScoreboard {
     private final ScoreboardExpansion expansion;
     private final List<CustomLine> customLineList;
     private final Scoreboard scoreboard;
-    private final Player player;
+    private Player player;
     private Objective objective;
+    private Component title;
 
     public CustomScoreboard(ScoreboardExpansion expansion, Player player) {
         this.expansion = Validate.notNull(expansion, "expansion must not be null!");
@@ -44,6 +44,7 @@ public final class CustomScoreboard {
         ScoreboardManager bukkitScoreboardManager = Bukkit.getScoreboardManager();
         this.scoreboard = bukkitScoreboardManager.getNewScoreboard();
         this.customLineList = new ArrayList<>();
+        this.title = null;
 
         createObjective();
         initializeScoreboard();
@@ -67,6 +68,13 @@ public final class CustomScoreboard {
         return this.player;
     }
 
+    /**
+     * Change the player that this scoreboard is shown to, used when a scoreboard is reused from the pool.
+     */
+    public void setPlayer(Player player) {
+        this.player = Validate.notNull(player, "player must not be null!");
+    }
+
     public Scoreboard getScoreboard() {
         return this.scoreboard;
     }
@@ -89,6 +97,16 @@ public final class CustomScoreboard {
         player.setScoreboard(scoreboard);
     }
 
+    /**
+     * Hide all lines of this scoreboard before it is reused.
+     * This should be done after the scoreboard is disabled, so the player does not receive any changes.
+     */
+    public void resetScoreboard() {
+        for (int line = 16; line > 0; line--) {
+            removeLine(line);
+        }
+    }
+
     public void updateScoreboard() {
         updateTitle();
 
@@ -150,12 +168,22 @@ public final class CustomScoreboard {
         CustomLine customLine = getLine(line);
         Validate.notNull(customLine, "Could not find scoreboard line '" + line + "'.");
 
-        ChatColor chatColor = customLine.getColor();
-        String chatColorString = chatColor.toString();
+        // Every team and score change is sent to the player, so lines that did not change are skipped.
+        if (!customLine.isVisible()) {
+            ChatColor chatColor = customLine.getColor();
+            String chatColorString = chatColor.toString();
 
-        Objective objective = getObjective();
-        Score score = objective.getScore(chatColorString);
-        score.setScore(line);
+            Objective objective = getObjective();
+            Score score = objective.getScore(chatColorString);
+            score.setScore(line);
+            customLine.setVisible(true);
+        }
+
+        if (value.equals(customLine.getValue())) {
+            return;
+        }
+
+        customLine.setValue(value);
 
         ScoreboardExpansion expansion = getExpansion();
         if (expansion.isPaperScoreboard()) {
@@ -209,11 +237,15 @@ public final class CustomScoreboard {
     private void removeLine(int line) {
         CustomLine customLine = getLine(line);
         Validate.notNull(customLine, "Could not find scoreboard line '" + line + "'.");
+        if (!customLine.isVisible()) {
+            return;
+        }
 
         ChatColor chatColor = customLine.getColor();
         String chatColorString = chatColor.toString();
         Scoreboard scoreboard = getScoreboard();
         scoreboard.resetScores(chatColorString);
+        customLine.setVisible(false);
     }
 
     private int getLineLengthLimit() {
@@ -231,27 +263,12 @@ public final class CustomScoreboard {
         ICombatManager combatManager = combatLogX.getCombatManager();
         IPlaceholderManager placeholderManager = combatLogX.getPlaceholderManager();
         TagInformation tagInformation = combatManager.getTagInformation(player);
-        TextReplacementConfig replacementConfig = null;
-
-        if (tagInformation != null) {
-            List<Entity> enemyList = tagInformation.getEnemies();
-            Pattern placeholderPattern = Pattern.compile("\\{(\\S+)}");
-            TextReplacementConfig.Builder builder = TextReplacementConfig.builder();
-            builder.match(placeholderPattern);
-            builder.replacement((matchResult, builderCopy) -> {
-                String placeholder = matchResult.group(1);
-                Component replacement = placeholderManager.getPlaceholderReplacementComponent(player,
-                        enemyList, placeholder);
-                return (replacement == null ? Component.text(placeholder) : replacement);
-            });
-
-            replacementConfig = builder.build();
-        }
-
+        List<Entity> enemyList = (tagInformation == null ? null : tagInformation.getEnemies());
         for (Component preMessage : preMessageList) {
             Component finalMessage = preMessage;
-            if (replacementConfig != null) {
-                finalMessage = finalMessage.replaceText(replacementConfig);
+            if (enemyList != null) {
+                PlaceholderTemplate template = placeholderManager.getTemplate(preMessage);
+                finalMessage = placeholderManager.render(player, enemyList, template);
             }
 
             finalMessageList.add(finalMessage);
@@ -272,17 +289,11 @@ public final class CustomScoreboard {
         TagInformation tagInformation = combatManager.getTagInformation(player);
         if (tagInformation != null) {
             List<Entity> enemyList = tagInformation.getEnemies();
-            Pattern placeholderPattern = Pattern.compile("\\{(\\S+)}");
-            TextReplacementConfig.Builder builder = TextReplacementConfig.builder();
-            builder.match(placeholderPattern);
-            builder.replacement((matchResult, builderCopy) -> {
-                String placeholder = matchResult.group(1);
+            PlaceholderTemplate template = placeholderManager.getTemplate(preMessage);
+            preMessage = template.render(placeholder -> {
                 String replacement = placeholderManager.getPlaceholderReplacement(player, enemyList, placeholder);
                 return Component.text(replacement == null ? placeholder : replacement);
             });
-
-            TextReplacementConfig replacement = builder.build();
-            preMessage = preMessage.replaceText(replacement);
         }
 
         return preMessage;
@@ -290,6 +301,11 @@ public final class CustomScoreboard {
 
     private void updateTitle() {
         Component title = getTitle();
+        if (title.equals(this.title)) {
+            return;
+        }
+
+        this.title = title;
         ScoreboardExpansion expansion = getExpansion();
 
         if (expansion.isPaperScoreboard()) {
@@ -24,10 +24,12 @@ import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
 import com.github.sirblobman.combatlogx.api.configuration.PunishConfiguration;
 import com.github.sirblobman.combatlogx.api.expansion.ExpansionManager;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
 import com.github.sirblobman.combatlogx.api.manager.ICrystalManager;
 import com.github.sirblobman.combatlogx.api.manager.IDeathManager;
 import com.github.sirblobman.combatlogx.api.manager.IForgiveManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
 import com.github.sirblobman.combatlogx.api.manager.IPunishManager;
 import com.github.sirblobman.combatlogx.api.manager.ITimerManager;
 import com.github.sirblobman.combatlogx.api.object.UntagReason;
@@ -36,19 +38,27 @@ import com.github.sirblobman.combatlogx.command.CommandTogglePVP;
 import com.github.sirblobman.combatlogx.command.combatlogx.CommandCombatLogX;
 import com.github.sirblobman.combatlogx.configuration.ConfigurationChecker;
 import com.github.sirblobman.combatlogx.listener.ListenerConfiguration;
+import com.github.sirblobman.combatlogx.listener.ListenerCooldown;
 import com.github.sirblobman.combatlogx.listener.ListenerDamage;
 import com.github.sirblobman.combatlogx.listener.ListenerDeath;
 import com.github.sirblobman.combatlogx.listener.ListenerEndCrystal;
 import com.github.sirblobman.combatlogx.listener.ListenerInvulnerable;
+import com.github.sirblobman.combatlogx.listener.ListenerPlaceholderCache;
+import com.github.sirblobman.combatlogx.listener.ListenerPlayerState;
 import com.github.sirblobman.combatlogx.listener.ListenerPunish;
+import com.github.sirblobman.combatlogx.listener.ListenerTimerCache;
 import com.github.sirblobman.combatlogx.listener.ListenerUntag;
 import com.github.sirblobman.combatlogx.manager.CombatManager;
+import com.github.sirblobman.combatlogx.manager.CooldownManager;
 import com.github.sirblobman.combatlogx.manager.CrystalManager;
 import com.github.sirblobman.combatlogx.manager.DeathManager;
 import com.github.sirblobman.combatlogx.manager.ForgiveManager;
 import com.github.sirblobman.combatlogx.manager.PlaceholderManager;
+import com.github.sirblobman.combatlogx.manager.PlayerStateManager;
 import com.github.sirblobman.combatlogx.manager.PunishManager;
 import com.github.sirblobman.combatlogx.placeholder.BasePlaceholderExpansion;
+import com.github.sirblobman.combatlogx.task.CooldownTask;
+import com.github.sirblobman.combatlogx.task.PlayerDataSaveTask;
 import com.github.sirblobman.combatlogx.task.TimerUpdateTask;
 import com.github.sirblobman.combatlogx.task.UntagTask;
 import com.github.sirblobman.api.shaded.bstats.bukkit.Metrics;
@@ -63,6 +73,8 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
     private final DeathManager deathManager;
     private final ForgiveManager forgiveManager;
     private final CrystalManager crystalManager;
+    private final CooldownManager cooldownManager;
+    private final PlayerStateManager playerStateManager;
 
     private final MainConfiguration configuration;
     private final CommandConfiguration commandConfiguration;
@@ -77,6 +89,8 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
         this.deathManager = new DeathManager(this);
         this.forgiveManager = new ForgiveManager(this);
         this.crystalManager = new CrystalManager(this);
+        this.cooldownManager = new CooldownManager(this);
+        this.playerStateManager = new PlayerStateManager(this);
 
         this.configuration = new MainConfiguration(this);
         this.commandConfiguration = new CommandConfiguration();
@@ -103,6 +117,7 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
     @Override
     public void onEnable() {
         onReload();
+        this.playerStateManager.enable();
 
         LanguageManager languageManager = getLanguageManager();
         languageManager.onPluginEnable();
@@ -126,6 +141,7 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
 
         ExpansionManager expansionManager = getExpansionManager();
         expansionManager.disableExpansions();
+        this.playerStateManager.saveAll();
 
         broadcastMessageOnDisable();
     }
@@ -148,6 +164,7 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
         getConfiguration().load(configurationManager.get("config.yml"));
         getCommandConfiguration().load(configurationManager.get("commands.yml"));
         getPunishConfiguration().load(configurationManager.get("punish.yml"));
+        getCombatManager().clearTimerCache();
 
         ExpansionManager expansionManager = getExpansionManager();
         expansionManager.reloadConfigs();
@@ -188,6 +205,16 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
         return this.forgiveManager;
     }
 
+    @Override
+    public @NotNull ICooldownManager getCooldownManager() {
+        return this.cooldownManager;
+    }
+
+    @Override
+    public @NotNull IPlayerStateManager getPlayerStateManager() {
+        return this.playerStateManager;
+    }
+
     @Override
     public boolean isDebugModeDisabled() {
         ConfigurationManager configurationManager = getConfigurationManager();
@@ -255,12 +282,16 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
     }
 
     private void registerListeners() {
+        new ListenerPlayerState(this, this.playerStateManager).register();
         new ListenerConfiguration(this).register();
         new ListenerDamage(this).register();
         new ListenerPunish(this).register();
         new ListenerUntag(this).register();
         new ListenerDeath(this).register();
         new ListenerInvulnerable(this).register();
+        new ListenerTimerCache(this).register();
+        new ListenerPlaceholderCache(this).register();
+        new ListenerCooldown(this).register();
 
         int minorVersion = VersionUtility.getMinorVersion();
         if (minorVersion > 13) {
@@ -272,7 +303,9 @@ public final class CombatPlugin extends ConfigurablePlugin implements ICombatLog
         ITimerManager timerManager = getTimerManager();
         timerManager.register();
 
-        new UntagTask(this).register();
+        new UntagTask(this, this.combatManager).register();
+        new CooldownTask(this).register();
+        new PlayerDataSaveTask(this, this.playerStateManager).register();
     }
 
     private void registerExpansions() {
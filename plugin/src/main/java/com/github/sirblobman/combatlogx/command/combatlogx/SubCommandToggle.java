@@ -7,15 +7,15 @@ import java.util.Locale;
 
 import org.jetbrains.annotations.NotNull;
 
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.api.language.LanguageManager;
 import com.github.sirblobman.api.language.replacer.Replacer;
 import com.github.sirblobman.api.language.replacer.StringReplacer;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.command.CombatLogPlayerCommand;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 
 public final class SubCommandToggle extends CombatLogPlayerCommand {
     public SubCommandToggle(@NotNull ICombatLogX plugin) {
@@ -50,15 +50,13 @@ public final class SubCommandToggle extends CombatLogPlayerCommand {
 
     private void toggleValue(Player player, String value) {
         ICombatLogX plugin = getCombatLogX();
-        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
         LanguageManager languageManager = getLanguageManager();
 
-        YamlConfiguration playerData = playerDataManager.get(player);
-        boolean currentValue = playerData.getBoolean(value, true);
-        playerData.set(value, !currentValue);
-        playerDataManager.save(player);
+        CombatPlayerState state = playerStateManager.getState(player);
+        boolean status = toggle(state, value);
+        playerStateManager.saveState(state);
 
-        boolean status = playerData.getBoolean(value, true);
         String statusPath = ("placeholder.toggle." + (status ? "enabled" : "disabled"));
         String statusString = languageManager.getMessageString(player, statusPath);
 
@@ -66,4 +64,20 @@ public final class SubCommandToggle extends CombatLogPlayerCommand {
         String messagePath = ("command.combatlogx.toggle-" + value);
         sendMessageWithPrefix(player, messagePath, replacer);
     }
+
+    private boolean toggle(CombatPlayerState state, String value) {
+        switch (value) {
+            case "actionbar":
+                state.setActionBarEnabled(!state.isActionBarEnabled());
+                return state.isActionBarEnabled();
+            case "bossbar":
+                state.setBossBarEnabled(!state.isBossBarEnabled());
+                return state.isBossBarEnabled();
+            case "scoreboard":
+                state.setScoreboardEnabled(!state.isScoreboardEnabled());
+                return state.isScoreboardEnabled();
+            default:
+                throw new IllegalArgumentException("Unknown toggle value: " + value);
+        }
+    }
 }
@@ -148,7 +148,7 @@ public final class ListenerConfiguration extends CombatListener {
         ICombatManager combatManager = getCombatManager();
         MainConfiguration configuration = getConfiguration();
         if (configuration.isUntagOnEnemyDeath()) {
-            List<Player> playerList = combatManager.getPlayersInCombat();
+            List<Player> playerList = combatManager.getPlayersTaggedBy(enemy);
             for (Player player : playerList) {
                 combatManager.untag(player, enemy, UntagReason.ENEMY_DEATH);
             }
@@ -0,0 +1,33 @@
+package com.github.sirblobman.combatlogx.listener;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.listener.CombatListener;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+
+/**
+ * Removes the cooldowns of a player when they leave the server, except for keys that are kept on quit.
+ */
+public final class ListenerCooldown extends CombatListener {
+    public ListenerCooldown(@NotNull ICombatLogX plugin) {
+        super(plugin);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        Player player = e.getPlayer();
+        UUID playerId = player.getUniqueId();
+
+        ICombatLogX plugin = getCombatLogX();
+        ICooldownManager cooldownManager = plugin.getCooldownManager();
+        cooldownManager.removeOnQuit(playerId);
+    }
+}
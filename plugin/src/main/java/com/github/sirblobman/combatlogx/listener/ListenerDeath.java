@@ -6,7 +6,6 @@ import java.util.concurrent.ThreadLocalRandom;
 
 import org.jetbrains.annotations.NotNull;
 
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -16,7 +15,6 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.api.folia.details.RunnableTask;
 import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.api.language.ComponentHelper;
@@ -29,6 +27,8 @@ import com.github.sirblobman.combatlogx.api.configuration.PunishConfiguration;
 import com.github.sirblobman.combatlogx.api.listener.CombatListener;
 import com.github.sirblobman.combatlogx.api.manager.IDeathManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 import com.github.sirblobman.combatlogx.api.object.KillTime;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
 import com.github.sirblobman.api.shaded.adventure.text.minimessage.MiniMessage;
@@ -47,14 +47,15 @@ public final class ListenerDeath extends CombatListener {
         }
 
         Player player = e.getPlayer();
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        YamlConfiguration playerData = playerDataManager.get(player);
-        if (!playerData.getBoolean("kill-on-join", false)) {
+        ICombatLogX plugin = getCombatLogX();
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
+        CombatPlayerState state = playerStateManager.getState(player);
+        if (!state.isKillOnJoin()) {
             return;
         }
 
-        playerData.set("kill-on-join", false);
-        playerDataManager.save(player);
+        state.setKillOnJoin(false);
+        playerStateManager.saveState(state);
 
         IDeathManager deathManager = getDeathManager();
         List<Entity> enemyList = Collections.emptyList();
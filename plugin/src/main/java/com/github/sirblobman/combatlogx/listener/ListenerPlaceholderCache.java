@@ -0,0 +1,58 @@
+package com.github.sirblobman.combatlogx.listener;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.event.PlayerReTagEvent;
+import com.github.sirblobman.combatlogx.api.event.PlayerTagEvent;
+import com.github.sirblobman.combatlogx.api.event.PlayerUntagEvent;
+import com.github.sirblobman.combatlogx.api.listener.CombatListener;
+import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+
+/**
+ * Clears the cached placeholder replacements of a player when they leave the server
+ * or when their combat status changes, so replacements from before a tag or untag are not reused.
+ */
+public final class ListenerPlaceholderCache extends CombatListener {
+    public ListenerPlaceholderCache(@NotNull ICombatLogX plugin) {
+        super(plugin);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        Player player = e.getPlayer();
+        clearCache(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTag(PlayerTagEvent e) {
+        Player player = e.getPlayer();
+        clearCache(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onReTag(PlayerReTagEvent e) {
+        Player player = e.getPlayer();
+        clearCache(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUntag(PlayerUntagEvent e) {
+        Player player = e.getPlayer();
+        clearCache(player);
+    }
+
+    private void clearCache(@NotNull Player player) {
+        UUID playerId = player.getUniqueId();
+        ICombatLogX plugin = getCombatLogX();
+        IPlaceholderManager placeholderManager = plugin.getPlaceholderManager();
+        placeholderManager.clearPlayerCache(playerId);
+    }
+}
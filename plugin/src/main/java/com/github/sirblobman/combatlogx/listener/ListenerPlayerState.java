@@ -0,0 +1,81 @@
+package com.github.sirblobman.combatlogx.listener;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent.Result;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.listener.CombatListener;
+import com.github.sirblobman.combatlogx.manager.PlayerStateManager;
+import com.github.sirblobman.combatlogx.task.PlayerStateUnloadTask;
+
+/**
+ * Loads the state of a player before other join listeners need it, and saves it after they left the server.
+ * Storages that support it load the state while the player is still logging in, off the server thread.
+ */
+public final class ListenerPlayerState extends CombatListener {
+    private final PlayerStateManager playerStateManager;
+
+    public ListenerPlayerState(@NotNull ICombatLogX plugin, @NotNull PlayerStateManager playerStateManager) {
+        super(plugin);
+        this.playerStateManager = playerStateManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent e) {
+        if (e.getLoginResult() != Result.ALLOWED) {
+            return;
+        }
+
+        UUID playerId = e.getUniqueId();
+        OfflinePlayer player = Bukkit.getOfflinePlayer(playerId);
+        PlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.preloadState(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent e) {
+        if (e.getResult() == PlayerLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        Player player = e.getPlayer();
+        PlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.removePreloadedState(player);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent e) {
+        Player player = e.getPlayer();
+        PlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.getState(player);
+
+        // A player that joined again before their old state was unloaded keeps the old state.
+        playerStateManager.removePreloadedState(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        Player player = e.getPlayer();
+        UUID playerId = player.getUniqueId();
+
+        ICombatLogX plugin = getCombatLogX();
+        PlayerStateManager playerStateManager = getPlayerStateManager();
+        new PlayerStateUnloadTask(plugin, playerStateManager, playerId).register();
+    }
+
+    private @NotNull PlayerStateManager getPlayerStateManager() {
+        return this.playerStateManager;
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.sirblobman.combatlogx.listener;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.listener.CombatListener;
+import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
+
+/**
+ * Clears the cached permission timer of a player when their permissions are likely to change.
+ */
+public final class ListenerTimerCache extends CombatListener {
+    public ListenerTimerCache(@NotNull ICombatLogX plugin) {
+        super(plugin);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        clearTimerCache(e);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangeWorld(PlayerChangedWorldEvent e) {
+        clearTimerCache(e);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        clearTimerCache(e);
+    }
+
+    private void clearTimerCache(@NotNull PlayerEvent e) {
+        Player player = e.getPlayer();
+        UUID playerId = player.getUniqueId();
+
+        ICombatManager combatManager = getCombatManager();
+        combatManager.clearTimerCache(playerId);
+    }
+}
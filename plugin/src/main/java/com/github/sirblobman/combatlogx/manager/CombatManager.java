@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -19,6 +20,7 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.permissions.Permission;
 import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
 
 import com.github.sirblobman.api.language.LanguageManager;
@@ -48,10 +50,22 @@ import com.github.sirblobman.api.shaded.adventure.text.Component;
 
 public final class CombatManager extends Manager implements ICombatManager {
     private final Map<UUID, TagInformation> combatMap;
+    private final Map<UUID, TagExpiry> scheduledExpiryMap;
+    private final DelayQueue<TagExpiry> expiryQueue;
+    private final Map<UUID, Set<UUID>> enemyIndexMap;
+    private final Map<UUID, Set<UUID>> playerEnemyMap;
+    private final Map<UUID, Integer> permissionTimerMap;
+    private final Set<String> reTagCoalescingBypassSet;
 
     public CombatManager(@NotNull ICombatLogX plugin) {
         super(plugin);
         this.combatMap = new ConcurrentHashMap<>();
+        this.scheduledExpiryMap = new ConcurrentHashMap<>();
+        this.expiryQueue = new DelayQueue<>();
+        this.enemyIndexMap = new ConcurrentHashMap<>();
+        this.playerEnemyMap = new ConcurrentHashMap<>();
+        this.permissionTimerMap = new ConcurrentHashMap<>();
+        this.reTagCoalescingBypassSet = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -74,6 +88,10 @@ public final class CombatManager extends Manager implements ICombatManager {
             return false;
         }
 
+        if (coalesceReTag(player, enemy, tagType, customEndMillis)) {
+            return true;
+        }
+
         if (failsPreTagEvent(player, enemy, tagType, tagReason)) {
             plugin.printDebug("The PlayerPreTagEvent was cancelled.");
             return false;
@@ -117,11 +135,89 @@ public final class CombatManager extends Manager implements ICombatManager {
         TagInformation tagInformation = this.combatMap.computeIfAbsent(playerId, key -> new TagInformation(player));
         tagInformation.addTag(combatTag);
 
+        if (enemy != null) {
+            UUID enemyId = enemy.getUniqueId();
+            addEnemyIndex(playerId, enemyId);
+        }
+
+        if (!this.scheduledExpiryMap.containsKey(playerId)) {
+            long expireMillis = tagInformation.getExpireMillisCombined();
+            scheduleExpiry(playerId, expireMillis);
+        }
+
         String playerName = player.getName();
         plugin.printDebug("Successfully put player '" + playerName + "' into combat.");
         return true;
     }
 
+    @Override
+    public void addReTagCoalescingBypass(@NotNull Plugin plugin) {
+        String pluginName = plugin.getName();
+        this.reTagCoalescingBypassSet.add(pluginName);
+    }
+
+    @Override
+    public void removeReTagCoalescingBypass(@NotNull Plugin plugin) {
+        String pluginName = plugin.getName();
+        this.reTagCoalescingBypassSet.remove(pluginName);
+    }
+
+    /**
+     * Extend an existing tag for the same enemy and tag type without the full tag events.
+     * This is only done when the existing tag was fully created within the coalescing window.
+     *
+     * @return {@code true} if the re-tag was handled by extending the existing tag.
+     */
+    private boolean coalesceReTag(@NotNull Player player, @Nullable Entity enemy, @NotNull TagType tagType,
+                                  long customEndMillis) {
+        ICombatLogX plugin = getCombatLogX();
+        MainConfiguration configuration = plugin.getConfiguration();
+        long coalesceMillis = configuration.getReTagCoalesceMillis();
+        if (coalesceMillis <= 0L || !this.reTagCoalescingBypassSet.isEmpty()) {
+            return false;
+        }
+
+        UUID playerId = player.getUniqueId();
+        TagInformation tagInformation = this.combatMap.get(playerId);
+        if (tagInformation == null || tagInformation.isExpired()) {
+            return false;
+        }
+
+        CombatTag combatTag = getTag(tagInformation, enemy);
+        if (combatTag == null || combatTag.getTagType() != tagType) {
+            return false;
+        }
+
+        long systemMillis = System.currentTimeMillis();
+        long tagMillis = combatTag.getTagMillis();
+        if ((systemMillis - tagMillis) >= coalesceMillis) {
+            return false;
+        }
+
+        long expireMillis = combatTag.getExpireMillis();
+        if (customEndMillis > expireMillis && !tagInformation.extendTag(combatTag, customEndMillis)) {
+            return false;
+        }
+
+        plugin.printDebug("Re-tag was coalesced into the existing tag.");
+        return true;
+    }
+
+    private @Nullable CombatTag getTag(@NotNull TagInformation tagInformation, @Nullable Entity enemy) {
+        if (enemy != null) {
+            return tagInformation.getTagForEnemy(enemy);
+        }
+
+        List<CombatTag> tagList = tagInformation.getTags();
+        for (CombatTag combatTag : tagList) {
+            if (combatTag.getEnemyId() == null) {
+                return combatTag;
+            }
+        }
+
+        return null;
+    }
+
     @Override
     public void untag(@NotNull Player player, @NotNull UntagReason untagReason) {
         if (!isInCombat(player)) {
@@ -135,6 +231,8 @@ public final class CombatManager extends Manager implements ICombatManager {
 
         UUID playerId = player.getUniqueId();
         this.combatMap.remove(playerId);
+        this.scheduledExpiryMap.remove(playerId);
+        removeEnemyIndex(playerId);
 
         ICombatLogX plugin = getCombatLogX();
         ITimerManager timerManager = plugin.getTimerManager();
@@ -163,12 +261,59 @@ public final class CombatManager extends Manager implements ICombatManager {
         }
 
         tagInformation.removeEnemy(enemy);
+        UUID playerId = player.getUniqueId();
+        UUID enemyId = enemy.getUniqueId();
+        removeEnemyIndex(playerId, enemyId);
+
         PluginManager pluginManager = Bukkit.getPluginManager();
         PlayerEnemyRemoveEvent event = new PlayerEnemyRemoveEvent(player, untagReason, enemy);
         pluginManager.callEvent(event);
 
         if (tagInformation.isExpired()) {
             untag(player, untagReason);
+            return;
+        }
+
+        updateEnemyIndex(playerId, tagInformation);
+        long expireMillis = tagInformation.getExpireMillisCombined();
+        scheduleExpiry(playerId, expireMillis);
+    }
+
+    /**
+     * Remove all players whose combat timer has expired.
+     * Only players with a scheduled expiry that has passed are checked,
+     * so the cost scales with the amount of expiring tags instead of the amount of tagged players.
+     */
+    public void untagExpired() {
+        TagExpiry tagExpiry;
+        while ((tagExpiry = this.expiryQueue.poll()) != null) {
+            UUID playerId = tagExpiry.getPlayerId();
+            if (!this.scheduledExpiryMap.remove(playerId, tagExpiry)) {
+                continue;
+            }
+
+            TagInformation tagInformation = this.combatMap.get(playerId);
+            if (tagInformation == null) {
+                removeEnemyIndex(playerId);
+                continue;
+            }
+
+            if (!tagInformation.isExpired()) {
+                // Tags for some enemies may have expired on their own.
+                updateEnemyIndex(playerId, tagInformation);
+                long expireMillis = tagInformation.getExpireMillisCombined();
+                scheduleExpiry(playerId, expireMillis);
+                continue;
+            }
+
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null) {
+                this.combatMap.remove(playerId);
+                removeEnemyIndex(playerId);
+                continue;
+            }
+
+            untag(player, UntagReason.EXPIRE);
         }
     }
 
@@ -199,6 +344,32 @@ public final class CombatManager extends Manager implements ICombatManager {
         return Collections.unmodifiableList(playerList);
     }
 
+    @Override
+    public @NotNull List<Player> getPlayersTaggedBy(@NotNull Entity enemy) {
+        UUID enemyId = enemy.getUniqueId();
+        Set<UUID> playerIdSet = this.enemyIndexMap.get(enemyId);
+        if (playerIdSet == null || playerIdSet.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Player> playerList = new ArrayList<>();
+        for (UUID playerId : playerIdSet) {
+            // A tag for this enemy can expire before the other tags of the player, so stale entries are removed here.
+            TagInformation tagInformation = this.combatMap.get(playerId);
+            if (tagInformation == null || !isTaggedBy(tagInformation, enemyId)) {
+                removeEnemyIndex(playerId, enemyId);
+                continue;
+            }
+
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                playerList.add(player);
+            }
+        }
+
+        return Collections.unmodifiableList(playerList);
+    }
+
     @Override
     public TagInformation getTagInformation(@NotNull Player player) {
         UUID playerId = player.getUniqueId();
@@ -212,12 +383,23 @@ public final class CombatManager extends Manager implements ICombatManager {
         TimerType timerType = configuration.getTimerType();
 
         if (timerType == TimerType.PERMISSION) {
-            return getPermissionTimerSeconds(player);
+            UUID playerId = player.getUniqueId();
+            return this.permissionTimerMap.computeIfAbsent(playerId, key -> getPermissionTimerSeconds(player));
         }
 
         return getGlobalTimerSeconds();
     }
 
+    @Override
+    public void clearTimerCache(@NotNull UUID playerId) {
+        this.permissionTimerMap.remove(playerId);
+    }
+
+    @Override
+    public void clearTimerCache() {
+        this.permissionTimerMap.clear();
+    }
+
     @Override
     public @Nullable Permission getBypassPermission() {
         ICombatLogX combatLogX = getCombatLogX();
@@ -235,6 +417,71 @@ public final class CombatManager extends Manager implements ICombatManager {
         return player.hasPermission(bypassPermission);
     }
 
+    private void scheduleExpiry(@NotNull UUID playerId, long expireMillis) {
+        TagExpiry tagExpiry = new TagExpiry(playerId, expireMillis);
+        this.scheduledExpiryMap.put(playerId, tagExpiry);
+        this.expiryQueue.add(tagExpiry);
+    }
+
+    private void addEnemyIndex(@NotNull UUID playerId, @NotNull UUID enemyId) {
+        this.enemyIndexMap.computeIfAbsent(enemyId, key -> ConcurrentHashMap.newKeySet()).add(playerId);
+        this.playerEnemyMap.computeIfAbsent(playerId, key -> ConcurrentHashMap.newKeySet()).add(enemyId);
+    }
+
+    private void removeEnemyIndex(@NotNull UUID playerId, @NotNull UUID enemyId) {
+        this.enemyIndexMap.computeIfPresent(enemyId, (key, playerIdSet) -> {
+            playerIdSet.remove(playerId);
+            return (playerIdSet.isEmpty() ? null : playerIdSet);
+        });
+
+        this.playerEnemyMap.computeIfPresent(playerId, (key, enemyIdSet) -> {
+            enemyIdSet.remove(enemyId);
+            return (enemyIdSet.isEmpty() ? null : enemyIdSet);
+        });
+    }
+
+    private void removeEnemyIndex(@NotNull UUID playerId) {
+        Set<UUID> enemyIdSet = this.playerEnemyMap.remove(playerId);
+        if (enemyIdSet == null) {
+            return;
+        }
+
+        for (UUID enemyId : enemyIdSet) {
+            this.enemyIndexMap.computeIfPresent(enemyId, (key, playerIdSet) -> {
+                playerIdSet.remove(playerId);
+                return (playerIdSet.isEmpty() ? null : playerIdSet);
+            });
+        }
+    }
+
+    /**
+     * Remove the index entries for enemies that are no longer part of the tag information of a player.
+     */
+    private void updateEnemyIndex(@NotNull UUID playerId, @NotNull TagInformation tagInformation) {
+        Set<UUID> enemyIdSet = this.playerEnemyMap.get(playerId);
+        if (enemyIdSet == null) {
+            return;
+        }
+
+        List<UUID> currentEnemyIdList = tagInformation.getEnemyIds();
+        for (UUID enemyId : enemyIdSet) {
+            if (!currentEnemyIdList.contains(enemyId)) {
+                removeEnemyIndex(playerId, enemyId);
+            }
+        }
+    }
+
+    private boolean isTaggedBy(@NotNull TagInformation tagInformation, @NotNull UUID enemyId) {
+        List<CombatTag> tagList = tagInformation.getTags();
+        for (CombatTag combatTag : tagList) {
+            if (enemyId.equals(combatTag.getEnemyId())) {
+                return !combatTag.isExpired();
+            }
+        }
+
+        return false;
+    }
+
     private int getGlobalTimerSeconds() {
         ICombatLogX combatLogX = getCombatLogX();
         MainConfiguration configuration = combatLogX.getConfiguration();
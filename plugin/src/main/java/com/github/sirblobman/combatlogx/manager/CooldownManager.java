@@ -0,0 +1,124 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+import com.github.sirblobman.combatlogx.api.object.CooldownKey;
+
+/**
+ * Stores the cooldowns of all players in one place.
+ * Keys are interned to small ids, so each player only needs an array of expire times.
+ * Expired cooldowns are removed by the cooldown task, and players without cooldowns are removed with them.
+ */
+public final class CooldownManager extends Manager implements ICooldownManager {
+    private final Map<String, CooldownKey> keyMap;
+    private final AtomicInteger nextKeyId;
+    private final Map<UUID, PlayerCooldowns> cooldownMap;
+
+    public CooldownManager(@NotNull ICombatLogX plugin) {
+        super(plugin);
+        this.keyMap = new ConcurrentHashMap<>();
+        this.nextKeyId = new AtomicInteger(0);
+        this.cooldownMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public @NotNull CooldownKey getKey(@NotNull String name) {
+        return getKey(name, false);
+    }
+
+    @Override
+    public @NotNull CooldownKey getKey(@NotNull String name, boolean keepOnQuit) {
+        CooldownKey key = this.keyMap.get(name);
+        if (key != null) {
+            return key;
+        }
+
+        return this.keyMap.computeIfAbsent(name, keyName -> {
+            int id = this.nextKeyId.getAndIncrement();
+            return new CooldownKey(id, keyName, keepOnQuit);
+        });
+    }
+
+    @Override
+    public boolean hasCooldown(@NotNull UUID playerId, @NotNull CooldownKey key) {
+        long expireMillis = getExpireMillis(playerId, key);
+        long systemMillis = System.currentTimeMillis();
+        return (expireMillis > systemMillis);
+    }
+
+    @Override
+    public long getExpireMillis(@NotNull UUID playerId, @NotNull CooldownKey key) {
+        PlayerCooldowns cooldowns = this.cooldownMap.get(playerId);
+        if (cooldowns == null) {
+            return 0L;
+        }
+
+        int id = key.getId();
+        return cooldowns.get(id);
+    }
+
+    @Override
+    public long getMillisLeft(@NotNull UUID playerId, @NotNull CooldownKey key) {
+        long expireMillis = getExpireMillis(playerId, key);
+        long systemMillis = System.currentTimeMillis();
+        return Math.max(0L, expireMillis - systemMillis);
+    }
+
+    @Override
+    public void setExpireMillis(@NotNull UUID playerId, @NotNull CooldownKey key, long expireMillis) {
+        // The slot is set inside compute so a concurrent cleanup can not remove the entry before the write.
+        int id = key.getId();
+        this.cooldownMap.compute(playerId, (uuid, cooldowns) -> {
+            PlayerCooldowns playerCooldowns = (cooldowns == null ? new PlayerCooldowns() : cooldowns);
+            playerCooldowns.set(id, expireMillis);
+            return playerCooldowns;
+        });
+    }
+
+    @Override
+    public void addCooldown(@NotNull UUID playerId, @NotNull CooldownKey key, long cooldownMillis) {
+        long systemMillis = System.currentTimeMillis();
+        long expireMillis = (systemMillis + cooldownMillis);
+        setExpireMillis(playerId, key, expireMillis);
+    }
+
+    @Override
+    public void removeCooldown(@NotNull UUID playerId, @NotNull CooldownKey key) {
+        PlayerCooldowns cooldowns = this.cooldownMap.get(playerId);
+        if (cooldowns != null) {
+            int id = key.getId();
+            cooldowns.remove(id);
+        }
+    }
+
+    @Override
+    public void removeOnQuit(@NotNull UUID playerId) {
+        long systemMillis = System.currentTimeMillis();
+        this.cooldownMap.computeIfPresent(playerId, (uuid, cooldowns) -> {
+            for (CooldownKey key : this.keyMap.values()) {
+                if (!key.isKeepOnQuit()) {
+                    int id = key.getId();
+                    cooldowns.remove(id);
+                }
+            }
+
+            return (cooldowns.removeExpired(systemMillis) ? null : cooldowns);
+        });
+    }
+
+    @Override
+    public void removeExpired() {
+        long systemMillis = System.currentTimeMillis();
+        for (UUID playerId : this.cooldownMap.keySet()) {
+            this.cooldownMap.computeIfPresent(playerId, (uuid, cooldowns) ->
+                    cooldowns.removeExpired(systemMillis) ? null : cooldowns);
+        }
+    }
+}
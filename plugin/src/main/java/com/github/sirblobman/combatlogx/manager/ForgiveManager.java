@@ -8,11 +8,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import org.bukkit.OfflinePlayer;
-import org.bukkit.configuration.file.YamlConfiguration;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.manager.IForgiveManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 import com.github.sirblobman.combatlogx.api.object.CombatTag;
 
 public final class ForgiveManager extends Manager implements IForgiveManager {
@@ -26,19 +26,16 @@ public final class ForgiveManager extends Manager implements IForgiveManager {
     @Override
     public boolean getToggleValue(@NotNull OfflinePlayer player) {
         ICombatLogX plugin = getCombatLogX();
-        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
-        YamlConfiguration configuration = playerDataManager.get(player);
-        return configuration.getBoolean("forgive-toggle", false);
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
+        CombatPlayerState state = playerStateManager.getState(player);
+        return state.getForgiveToggle();
     }
 
     @Override
     public void setToggle(@NotNull OfflinePlayer player, boolean value) {
         ICombatLogX plugin = getCombatLogX();
-        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
-        YamlConfiguration configuration = playerDataManager.get(player);
-
-        configuration.set("forgive-toggle", value);
-        playerDataManager.save(player);
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
+        playerStateManager.updateState(player, state -> state.setForgiveToggle(value));
     }
 
     @Override
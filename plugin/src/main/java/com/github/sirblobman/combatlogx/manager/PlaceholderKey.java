@@ -0,0 +1,32 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.sirblobman.combatlogx.api.placeholder.IPlaceholderExpansion;
+
+/**
+ * A placeholder that was split into its expansion and the placeholder for that expansion.
+ */
+final class PlaceholderKey {
+    static final PlaceholderKey UNKNOWN = new PlaceholderKey(null, "");
+
+    private final IPlaceholderExpansion expansion;
+    private final String subPlaceholder;
+
+    PlaceholderKey(@Nullable IPlaceholderExpansion expansion, @NotNull String subPlaceholder) {
+        this.expansion = expansion;
+        this.subPlaceholder = subPlaceholder;
+    }
+
+    /**
+     * @return The expansion for this placeholder, or {@code null} if no expansion matches.
+     */
+    @Nullable IPlaceholderExpansion getExpansion() {
+        return this.expansion;
+    }
+
+    @NotNull String getSubPlaceholder() {
+        return this.subPlaceholder;
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,24 +18,36 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
 import com.github.sirblobman.combatlogx.api.placeholder.IPlaceholderExpansion;
 import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderHelper;
+import com.github.sirblobman.combatlogx.api.placeholder.PlaceholderTemplate;
 import com.github.sirblobman.combatlogx.api.utility.CommandHelper;
 import com.github.sirblobman.api.shaded.adventure.text.Component;
 
 public final class PlaceholderManager extends Manager implements IPlaceholderManager {
     private static final Pattern BRACKET_PLACEHOLDER_PATTERN;
+    private static final int MAX_TEMPLATE_CACHE_SIZE;
+    private static final int MAX_KEY_CACHE_SIZE;
 
     static {
         BRACKET_PLACEHOLDER_PATTERN = Pattern.compile("\\{(\\S+)}");
+        MAX_TEMPLATE_CACHE_SIZE = 512;
+        MAX_KEY_CACHE_SIZE = 1024;
     }
 
     private final Map<String, IPlaceholderExpansion> expansionMap;
+    private final Map<Component, PlaceholderTemplate> templateMap;
+    private final Map<String, PlaceholderKey> keyMap;
+    private final Map<UUID, PlaceholderMemo> memoMap;
 
     public PlaceholderManager(@NotNull ICombatLogX plugin) {
         super(plugin);
         this.expansionMap = new LinkedHashMap<>();
+        this.templateMap = new ConcurrentHashMap<>();
+        this.keyMap = new ConcurrentHashMap<>();
+        this.memoMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -56,43 +70,122 @@ public final class PlaceholderManager extends Manager implements IPlaceholderMan
             String errorMessage = "A placeholder expansion with id '" + expansionId + "' is already registered.";
             throw new IllegalArgumentException(errorMessage);
         }
+
+        // Placeholders that were unknown before may belong to the new expansion.
+        this.keyMap.clear();
     }
 
     @Override
     public @Nullable String getPlaceholderReplacement(@NotNull Player player, @NotNull List<Entity> enemyList,
                                                       @NotNull String placeholder) {
-        int underscoreIndex = placeholder.indexOf('_');
-        if (underscoreIndex == -1) {
+        PlaceholderKey key = getPlaceholderKey(placeholder);
+        IPlaceholderExpansion expansion = key.getExpansion();
+        if (expansion == null) {
             return null;
         }
 
-        String expansionId = placeholder.substring(0, underscoreIndex);
-        IPlaceholderExpansion expansion = getPlaceholderExpansion(expansionId);
-        if (expansion == null) {
-            return null;
+        PlaceholderMemo memo = getMemo(player);
+        long tick = getCurrentTick();
+        if (memo != null) {
+            String memoReplacement = memo.getString(tick, enemyList, placeholder);
+            if (memoReplacement != null) {
+                return memoReplacement;
+            }
         }
 
-        String subPlaceholder = placeholder.substring(underscoreIndex + 1);
-        return expansion.getReplacementString(player, enemyList, subPlaceholder);
+        String subPlaceholder = key.getSubPlaceholder();
+        String replacement = expansion.getReplacementString(player, enemyList, subPlaceholder);
+        if (memo != null && replacement != null) {
+            memo.putString(tick, enemyList, placeholder, replacement);
+        }
+
+        return replacement;
     }
 
     @Override
     public @Nullable Component getPlaceholderReplacementComponent(@NotNull Player player,
                                                                   @NotNull List<Entity> enemyList,
                                                                   @NotNull String placeholder) {
+        PlaceholderKey key = getPlaceholderKey(placeholder);
+        IPlaceholderExpansion expansion = key.getExpansion();
+        if (expansion == null) {
+            return null;
+        }
+
+        PlaceholderMemo memo = getMemo(player);
+        long tick = getCurrentTick();
+        if (memo != null) {
+            Component memoReplacement = memo.getComponent(tick, enemyList, placeholder);
+            if (memoReplacement != null) {
+                return memoReplacement;
+            }
+        }
+
+        String subPlaceholder = key.getSubPlaceholder();
+        Component replacement = expansion.getReplacement(player, enemyList, subPlaceholder);
+        if (memo != null && replacement != null) {
+            memo.putComponent(tick, enemyList, placeholder, replacement);
+        }
+
+        return replacement;
+    }
+
+    @Override
+    public void clearPlayerCache(@NotNull UUID playerId) {
+        this.memoMap.remove(playerId);
+    }
+
+    private @NotNull PlaceholderKey getPlaceholderKey(@NotNull String placeholder) {
+        PlaceholderKey key = this.keyMap.get(placeholder);
+        if (key != null) {
+            return key;
+        }
+
+        if (this.keyMap.size() >= MAX_KEY_CACHE_SIZE) {
+            this.keyMap.clear();
+        }
+
+        key = createPlaceholderKey(placeholder);
+        this.keyMap.put(placeholder, key);
+        return key;
+    }
+
+    private @NotNull PlaceholderKey createPlaceholderKey(@NotNull String placeholder) {
         int underscoreIndex = placeholder.indexOf('_');
         if (underscoreIndex == -1) {
-            return null;
+            return PlaceholderKey.UNKNOWN;
         }
 
         String expansionId = placeholder.substring(0, underscoreIndex);
         IPlaceholderExpansion expansion = getPlaceholderExpansion(expansionId);
         if (expansion == null) {
-            return null;
+            return PlaceholderKey.UNKNOWN;
         }
 
         String subPlaceholder = placeholder.substring(underscoreIndex + 1);
-        return expansion.getReplacement(player, enemyList, subPlaceholder);
+        return new PlaceholderKey(expansion, subPlaceholder);
+    }
+
+    /**
+     * @return The placeholder memo for a player, or {@code null} if the tick cache is disabled.
+     */
+    private @Nullable PlaceholderMemo getMemo(@NotNull Player player) {
+        ICombatLogX plugin = getCombatLogX();
+        MainConfiguration configuration = plugin.getConfiguration();
+        if (!configuration.isPlaceholderTickCache()) {
+            return null;
+        }
+
+        UUID playerId = player.getUniqueId();
+        return this.memoMap.computeIfAbsent(playerId, key -> new PlaceholderMemo());
+    }
+
+    /**
+     * Folia does not have a global tick counter, so ticks are calculated from the system time.
+     */
+    private long getCurrentTick() {
+        long systemMillis = System.currentTimeMillis();
+        return (systemMillis / 50L);
     }
 
     @Override
@@ -113,6 +206,32 @@ public final class PlaceholderManager extends Manager implements IPlaceholderMan
         return PlaceholderHelper.replacePlaceholderAPI(player, replaced);
     }
 
+    @Override
+    public @NotNull PlaceholderTemplate getTemplate(@NotNull Component message) {
+        PlaceholderTemplate template = this.templateMap.get(message);
+        if (template != null) {
+            return template;
+        }
+
+        // Messages are only replaced when the language files are reloaded, so the cache is cleared when it is full.
+        if (this.templateMap.size() >= MAX_TEMPLATE_CACHE_SIZE) {
+            this.templateMap.clear();
+        }
+
+        template = PlaceholderTemplate.compile(message);
+        this.templateMap.put(message, template);
+        return template;
+    }
+
+    @Override
+    public @NotNull Component render(@NotNull Player player, @NotNull List<Entity> enemyList,
+                                     @NotNull PlaceholderTemplate template) {
+        return template.render(placeholder -> {
+            Component replacement = getPlaceholderReplacementComponent(player, enemyList, placeholder);
+            return (replacement == null ? Component.text(placeholder) : replacement);
+        });
+    }
+
     @Override
     public void runReplacedCommands(@NotNull Player player, @NotNull List<Entity> enemyList,
                                     @NotNull Iterable<String> commands) {
@@ -0,0 +1,75 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.entity.Entity;
+
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+
+/**
+ * The placeholder replacements of a single player for the current server tick.
+ * Callers can use different enemy lists in the same tick, for example the PlaceholderAPI fast path uses an empty
+ * list while the scoreboard uses the real enemies, so each enemy list has its own entry.
+ * All entries are cleared as soon as a different tick is used.
+ */
+final class PlaceholderMemo {
+    private static final int MAX_ENTRY_COUNT = 4;
+
+    private final List<PlaceholderMemoEntry> entryList;
+    private long tick;
+
+    PlaceholderMemo() {
+        this.entryList = new ArrayList<>(MAX_ENTRY_COUNT);
+        this.tick = Long.MIN_VALUE;
+    }
+
+    synchronized @Nullable Component getComponent(long tick, @NotNull List<Entity> enemyList,
+                                                  @NotNull String placeholder) {
+        PlaceholderMemoEntry entry = getEntry(tick, enemyList);
+        return entry.getComponent(placeholder);
+    }
+
+    synchronized void putComponent(long tick, @NotNull List<Entity> enemyList, @NotNull String placeholder,
+                                   @NotNull Component replacement) {
+        PlaceholderMemoEntry entry = getEntry(tick, enemyList);
+        entry.putComponent(placeholder, replacement);
+    }
+
+    synchronized @Nullable String getString(long tick, @NotNull List<Entity> enemyList,
+                                            @NotNull String placeholder) {
+        PlaceholderMemoEntry entry = getEntry(tick, enemyList);
+        return entry.getString(placeholder);
+    }
+
+    synchronized void putString(long tick, @NotNull List<Entity> enemyList, @NotNull String placeholder,
+                                @NotNull String replacement) {
+        PlaceholderMemoEntry entry = getEntry(tick, enemyList);
+        entry.putString(placeholder, replacement);
+    }
+
+    private @NotNull PlaceholderMemoEntry getEntry(long tick, @NotNull List<Entity> enemyList) {
+        if (this.tick != tick) {
+            this.entryList.clear();
+            this.tick = tick;
+        }
+
+        for (PlaceholderMemoEntry entry : this.entryList) {
+            if (entry.isSameEnemies(enemyList)) {
+                return entry;
+            }
+        }
+
+        // Only a few different enemy lists are expected per tick, the oldest entry is dropped past the limit.
+        if (this.entryList.size() >= MAX_ENTRY_COUNT) {
+            this.entryList.remove(0);
+        }
+
+        PlaceholderMemoEntry entry = new PlaceholderMemoEntry(enemyList);
+        this.entryList.add(entry);
+        return entry;
+    }
+}
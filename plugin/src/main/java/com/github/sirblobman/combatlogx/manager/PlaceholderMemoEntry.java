@@ -0,0 +1,67 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.entity.Entity;
+
+import com.github.sirblobman.api.shaded.adventure.text.Component;
+
+/**
+ * The placeholder replacements of a single player for one list of enemies.
+ */
+final class PlaceholderMemoEntry {
+    private final List<UUID> enemyIdList;
+    private final Map<String, Component> componentMap;
+    private final Map<String, String> stringMap;
+
+    PlaceholderMemoEntry(@NotNull List<Entity> enemyList) {
+        this.enemyIdList = new ArrayList<>(enemyList.size());
+        this.componentMap = new HashMap<>();
+        this.stringMap = new HashMap<>();
+
+        for (Entity enemy : enemyList) {
+            UUID enemyId = enemy.getUniqueId();
+            this.enemyIdList.add(enemyId);
+        }
+    }
+
+    @Nullable Component getComponent(@NotNull String placeholder) {
+        return this.componentMap.get(placeholder);
+    }
+
+    void putComponent(@NotNull String placeholder, @NotNull Component replacement) {
+        this.componentMap.put(placeholder, replacement);
+    }
+
+    @Nullable String getString(@NotNull String placeholder) {
+        return this.stringMap.get(placeholder);
+    }
+
+    void putString(@NotNull String placeholder, @NotNull String replacement) {
+        this.stringMap.put(placeholder, replacement);
+    }
+
+    boolean isSameEnemies(@NotNull List<Entity> enemyList) {
+        int size = enemyList.size();
+        if (size != this.enemyIdList.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            Entity enemy = enemyList.get(i);
+            UUID enemyId = enemy.getUniqueId();
+            if (!enemyId.equals(this.enemyIdList.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.util.Arrays;
+
+/**
+ * The cooldown slots of a single player.
+ * Each slot holds the expire time of the cooldown key with the same id, or {@code 0} if there is no cooldown.
+ */
+final class PlayerCooldowns {
+    private long[] expireArray;
+
+    PlayerCooldowns() {
+        this.expireArray = new long[8];
+    }
+
+    synchronized long get(int id) {
+        if (id >= this.expireArray.length) {
+            return 0L;
+        }
+
+        return this.expireArray[id];
+    }
+
+    synchronized void set(int id, long expireMillis) {
+        if (id >= this.expireArray.length) {
+            int newLength = Math.max(id + 1, this.expireArray.length * 2);
+            this.expireArray = Arrays.copyOf(this.expireArray, newLength);
+        }
+
+        this.expireArray[id] = expireMillis;
+    }
+
+    synchronized void remove(int id) {
+        if (id < this.expireArray.length) {
+            this.expireArray[id] = 0L;
+        }
+    }
+
+    /**
+     * @param systemMillis The current system time in milliseconds.
+     * @return {@code true} if the player has no active cooldowns left.
+     */
+    synchronized boolean removeExpired(long systemMillis) {
+        boolean empty = true;
+        for (int id = 0; id < this.expireArray.length; id++) {
+            if (this.expireArray[id] <= systemMillis) {
+                this.expireArray[id] = 0L;
+            } else {
+                empty = false;
+            }
+        }
+
+        return empty;
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.combatlogx.storage.PlayerDataFiles;
+
+/**
+ * Writes player data files from a background thread.
+ * If a player has more than one waiting write, only the latest content is written.
+ * Each file is written to a temporary file first and then moved over the old file,
+ * so a crash during a save can not leave a half-written data file behind.
+ */
+final class PlayerDataWriter implements Runnable {
+    private final Logger logger;
+    private final File folder;
+    private volatile boolean running;
+    private Thread thread;
+    private Map<UUID, String> pendingMap;
+
+    PlayerDataWriter(@NotNull Logger logger, @NotNull File folder) {
+        this.logger = logger;
+        this.folder = folder;
+        this.running = false;
+        this.thread = null;
+        this.pendingMap = new LinkedHashMap<>();
+    }
+
+    boolean isRunning() {
+        return this.running;
+    }
+
+    void start() {
+        if (this.running) {
+            return;
+        }
+
+        this.running = true;
+        this.thread = new Thread(this, "CombatLogX Player Data Writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stop the writer thread after all waiting files are written.
+     */
+    void stop() {
+        if (!this.running) {
+            return;
+        }
+
+        synchronized (this) {
+            this.running = false;
+            notifyAll();
+        }
+
+        Thread thread = this.thread;
+        this.thread = null;
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10L));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queue the content of a player data file to be written.
+     * If the writer is not running, the file is written right away on the current thread.
+     *
+     * @param playerId The player that owns the data file.
+     * @param content  The full YAML content of the data file.
+     */
+    void submit(@NotNull UUID playerId, @NotNull String content) {
+        synchronized (this) {
+            if (this.running) {
+                this.pendingMap.put(playerId, content);
+                notifyAll();
+                return;
+            }
+        }
+
+        write(playerId, content);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Map<UUID, String> batch;
+            synchronized (this) {
+                while (this.running && this.pendingMap.isEmpty()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        this.running = false;
+                    }
+                }
+
+                if (this.pendingMap.isEmpty()) {
+                    break;
+                }
+
+                batch = this.pendingMap;
+                this.pendingMap = new LinkedHashMap<>();
+            }
+
+            for (Entry<UUID, String> entry : batch.entrySet()) {
+                write(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void write(@NotNull UUID playerId, @NotNull String content) {
+        File file = PlayerDataFiles.getFile(this.folder, playerId);
+        File tempFile = PlayerDataFiles.getTempFile(this.folder, playerId);
+
+        try {
+            if (!this.folder.exists() && !this.folder.mkdirs()) {
+                throw new IOException("Failed to create player data folder.");
+            }
+
+            // A stream is used instead of a channel, so an interrupted thread can't close the file early.
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+                outputStream.write(bytes);
+                outputStream.getFD().sync();
+            }
+
+            Path tempPath = tempFile.toPath();
+            Path path = file.toPath();
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            this.logger.log(Level.WARNING, "Failed to save player data for '" + playerId + "':", ex);
+        }
+    }
+}
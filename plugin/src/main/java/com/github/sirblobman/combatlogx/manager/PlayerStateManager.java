@@ -0,0 +1,292 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import com.github.sirblobman.api.configuration.PlayerDataManager;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
+import com.github.sirblobman.combatlogx.api.object.StorageType;
+import com.github.sirblobman.combatlogx.api.storage.PlayerStateStorage;
+import com.github.sirblobman.combatlogx.storage.PlayerDataFiles;
+import com.github.sirblobman.combatlogx.storage.SQLitePlayerStateStorage;
+import com.github.sirblobman.combatlogx.storage.YamlPlayerStateStorage;
+
+public final class PlayerStateManager extends Manager implements IPlayerStateManager {
+    private final Map<UUID, CombatPlayerState> stateMap;
+    private final Map<UUID, CombatPlayerState> preloadMap;
+    private final Map<UUID, Long> changedMap;
+    private final PlayerDataWriter playerDataWriter;
+    private volatile PlayerStateStorage storage;
+
+    public PlayerStateManager(@NotNull ICombatLogX plugin) {
+        super(plugin);
+        this.stateMap = new ConcurrentHashMap<>();
+        this.preloadMap = new ConcurrentHashMap<>();
+        this.changedMap = new ConcurrentHashMap<>();
+        this.storage = new YamlPlayerStateStorage(plugin);
+
+        File playerDataFolder = PlayerDataFiles.getFolder(plugin);
+        this.playerDataWriter = new PlayerDataWriter(plugin.getLogger(), playerDataFolder);
+    }
+
+    @Override
+    public @NotNull CombatPlayerState getState(@NotNull OfflinePlayer player) {
+        UUID playerId = player.getUniqueId();
+        CombatPlayerState state = this.stateMap.get(playerId);
+        if (state != null) {
+            return state;
+        }
+
+        if (!player.isOnline()) {
+            return loadState(player);
+        }
+
+        // The storage is never waited for inside the map, so other players are not blocked by a slow load.
+        CombatPlayerState newState = this.preloadMap.remove(playerId);
+        if (newState == null) {
+            newState = loadState(player);
+        }
+
+        CombatPlayerState oldState = this.stateMap.putIfAbsent(playerId, newState);
+        return (oldState != null ? oldState : newState);
+    }
+
+    @Override
+    public void updateState(@NotNull OfflinePlayer player, @NotNull Consumer<CombatPlayerState> action) {
+        UUID playerId = player.getUniqueId();
+        CombatPlayerState state = this.stateMap.get(playerId);
+        if (state == null && player.isOnline()) {
+            state = getState(player);
+        }
+
+        if (state != null) {
+            action.accept(state);
+            saveState(state);
+            return;
+        }
+
+        PlayerStateStorage storage = getStorage();
+        CompletableFuture<CombatPlayerState> future = storage.load(player);
+        future.whenComplete((loadedState, ex) -> {
+            if (ex != null) {
+                Logger logger = getLogger();
+                logger.log(Level.WARNING, "Failed to load the state of player '" + playerId + "':", ex);
+                return;
+            }
+
+            action.accept(loadedState);
+            saveState(loadedState);
+        });
+    }
+
+    @Override
+    public void saveState(@NotNull CombatPlayerState state) {
+        if (!state.isDirty()) {
+            return;
+        }
+
+        PlayerStateStorage storage = getStorage();
+        List<CombatPlayerState> stateList = Collections.singletonList(state);
+        storage.save(stateList);
+    }
+
+    @Override
+    public void unloadState(@NotNull OfflinePlayer player) {
+        UUID playerId = player.getUniqueId();
+        CombatPlayerState state = this.stateMap.remove(playerId);
+        if (state != null) {
+            saveState(state);
+        }
+
+        if (this.changedMap.remove(playerId) != null) {
+            writePlayerData(playerId);
+        }
+    }
+
+    @Override
+    public void savePlayerData(@NotNull OfflinePlayer player) {
+        long saveIntervalMillis = getSaveIntervalMillis();
+        if (saveIntervalMillis <= 0L || !this.playerDataWriter.isRunning()) {
+            PlayerDataManager playerDataManager = getPlayerDataManager();
+            playerDataManager.save(player);
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        long systemMillis = System.currentTimeMillis();
+        this.changedMap.putIfAbsent(playerId, systemMillis);
+    }
+
+    public @NotNull PlayerStateStorage getStorage() {
+        return this.storage;
+    }
+
+    /**
+     * Open the configured storage and start the background thread that writes player data files.
+     * If the configured storage can not be opened, the YAML storage is used instead.
+     * The states of players that are already online, for example after a reload, are loaded here
+     * so they do not have to be loaded later on the server thread.
+     */
+    public void enable() {
+        ICombatLogX plugin = getCombatLogX();
+        MainConfiguration configuration = plugin.getConfiguration();
+        StorageType storageType = configuration.getStorageType();
+        if (storageType == StorageType.SQLITE) {
+            PlayerStateStorage storage = new SQLitePlayerStateStorage(plugin);
+            try {
+                storage.enable();
+                this.storage = storage;
+            } catch (Exception ex) {
+                Logger logger = getLogger();
+                logger.log(Level.WARNING, "Failed to open the SQLITE storage, using YAML instead:", ex);
+                storage.disable();
+            }
+        }
+
+        this.playerDataWriter.start();
+        loadOnlinePlayers();
+    }
+
+    /**
+     * Load the state of a player that is logging in, if the storage supports loading from any thread.
+     * This is called before the player joins, so the state does not have to be loaded on the server thread.
+     */
+    public void preloadState(@NotNull OfflinePlayer player) {
+        PlayerStateStorage storage = getStorage();
+        if (!storage.isAsyncLoadSupported()) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        CombatPlayerState state = loadState(player);
+        this.preloadMap.put(playerId, state);
+    }
+
+    /**
+     * Remove a preloaded state, for example when a player was not allowed to join.
+     */
+    public void removePreloadedState(@NotNull OfflinePlayer player) {
+        UUID playerId = player.getUniqueId();
+        this.preloadMap.remove(playerId);
+    }
+
+    /**
+     * Save all player data and stop the background threads, for example when the plugin is disabled.
+     */
+    public void saveAll() {
+        List<CombatPlayerState> stateList = new ArrayList<>();
+        for (CombatPlayerState state : this.stateMap.values()) {
+            if (state.isDirty()) {
+                stateList.add(state);
+            }
+        }
+
+        PlayerStateStorage storage = getStorage();
+        storage.save(stateList);
+        storage.disable();
+
+        saveChanged(true);
+        this.playerDataWriter.stop();
+    }
+
+    /**
+     * Queue the data files of players that were changed to be written by the background thread.
+     *
+     * @param force {@code true} to save all changed files,
+     *              {@code false} to only save files that were changed longer than the save interval ago.
+     */
+    public void saveChanged(boolean force) {
+        long saveIntervalMillis = getSaveIntervalMillis();
+        long systemMillis = System.currentTimeMillis();
+        for (Entry<UUID, Long> entry : this.changedMap.entrySet()) {
+            UUID playerId = entry.getKey();
+            Long changedMillis = entry.getValue();
+            if (!force && (systemMillis - changedMillis) < saveIntervalMillis) {
+                continue;
+            }
+
+            if (this.changedMap.remove(playerId, changedMillis)) {
+                writePlayerData(playerId);
+            }
+        }
+    }
+
+    private void loadOnlinePlayers() {
+        Collection<? extends Player> onlinePlayerCollection = Bukkit.getOnlinePlayers();
+        if (onlinePlayerCollection.isEmpty()) {
+            return;
+        }
+
+        PlayerStateStorage storage = getStorage();
+        Map<UUID, CompletableFuture<CombatPlayerState>> futureMap = new LinkedHashMap<>();
+        for (Player player : onlinePlayerCollection) {
+            UUID playerId = player.getUniqueId();
+            futureMap.put(playerId, storage.load(player));
+        }
+
+        for (Entry<UUID, CompletableFuture<CombatPlayerState>> entry : futureMap.entrySet()) {
+            UUID playerId = entry.getKey();
+            CompletableFuture<CombatPlayerState> future = entry.getValue();
+            try {
+                CombatPlayerState state = future.join();
+                this.stateMap.putIfAbsent(playerId, state);
+            } catch (RuntimeException ex) {
+                Logger logger = getLogger();
+                logger.log(Level.WARNING, "Failed to load the state of player '" + playerId + "':", ex);
+            }
+        }
+    }
+
+    private long getSaveIntervalMillis() {
+        ICombatLogX plugin = getCombatLogX();
+        MainConfiguration configuration = plugin.getConfiguration();
+        long saveIntervalTicks = configuration.getPlayerDataSaveInterval();
+        return (saveIntervalTicks * 50L);
+    }
+
+    /**
+     * The YAML content is created on the current thread, so the background thread never reads a live configuration.
+     */
+    private void writePlayerData(@NotNull UUID playerId) {
+        OfflinePlayer player = Bukkit.getOfflinePlayer(playerId);
+        PlayerDataManager playerDataManager = getPlayerDataManager();
+        YamlConfiguration playerData = playerDataManager.get(player);
+
+        String content = playerData.saveToString();
+        this.playerDataWriter.submit(playerId, content);
+    }
+
+    private @NotNull CombatPlayerState loadState(@NotNull OfflinePlayer player) {
+        PlayerStateStorage storage = getStorage();
+        try {
+            return storage.load(player).join();
+        } catch (RuntimeException ex) {
+            UUID playerId = player.getUniqueId();
+            Logger logger = getLogger();
+            logger.log(Level.WARNING, "Failed to load the state of player '" + playerId + "':", ex);
+            return new CombatPlayerState(playerId);
+        }
+    }
+}
@@ -6,19 +6,19 @@ import org.jetbrains.annotations.NotNull;
 
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.PluginManager;
 
-import com.github.sirblobman.api.configuration.PlayerDataManager;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
 import com.github.sirblobman.combatlogx.api.configuration.CommandConfiguration;
 import com.github.sirblobman.combatlogx.api.configuration.PunishConfiguration;
 import com.github.sirblobman.combatlogx.api.event.PlayerPunishEvent;
 import com.github.sirblobman.combatlogx.api.manager.IDeathManager;
 import com.github.sirblobman.combatlogx.api.manager.IPlaceholderManager;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
 import com.github.sirblobman.combatlogx.api.manager.IPunishManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
 import com.github.sirblobman.combatlogx.api.object.KillTime;
 import com.github.sirblobman.combatlogx.api.object.SpecialPunishCommand;
 import com.github.sirblobman.combatlogx.api.object.UntagReason;
@@ -62,13 +62,9 @@ public final class PunishManager extends Manager implements IPunishManager {
         PunishConfiguration punishConfiguration = combatLogX.getPunishConfiguration();
 
         if (punishConfiguration.isEnablePunishmentCounter()) {
-            PlayerDataManager playerDataManager = getPlayerDataManager();
-            if (playerDataManager.hasData(player)) {
-                YamlConfiguration playerData = playerDataManager.get(player);
-                return playerData.getLong("punishment-count", 0L);
-            }
-
-            return 0L;
+            IPlayerStateManager playerStateManager = combatLogX.getPlayerStateManager();
+            CombatPlayerState state = playerStateManager.getState(player);
+            return state.getPunishmentCount();
         }
 
         return 0L;
@@ -81,12 +77,8 @@ public final class PunishManager extends Manager implements IPunishManager {
             return;
         }
 
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        YamlConfiguration playerData = playerDataManager.get(player);
-        long currentCount = playerData.getLong("punishment-count", 0L);
-
-        playerData.set("punishment-count", currentCount + 1L);
-        playerDataManager.save(player);
+        IPlayerStateManager playerStateManager = combatLogX.getPlayerStateManager();
+        playerStateManager.updateState(player, CombatPlayerState::increasePunishmentCount);
     }
 
     @Override
@@ -97,11 +89,8 @@ public final class PunishManager extends Manager implements IPunishManager {
             return;
         }
 
-        PlayerDataManager playerDataManager = getPlayerDataManager();
-        YamlConfiguration playerData = playerDataManager.get(player);
-
-        playerData.set("punishment-count", 0L);
-        playerDataManager.save(player);
+        IPlayerStateManager playerStateManager = combatLogX.getPlayerStateManager();
+        playerStateManager.updateState(player, state -> state.setPunishmentCount(0L));
     }
 
     private void runKillCheck(@NotNull Player player, @NotNull List<Entity> enemyList) {
@@ -123,10 +112,8 @@ public final class PunishManager extends Manager implements IPunishManager {
 
     private void killOnJoin(@NotNull OfflinePlayer player) {
         ICombatLogX plugin = getCombatLogX();
-        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
-        YamlConfiguration playerData = playerDataManager.get(player);
-        playerData.set("kill-on-join", true);
-        playerDataManager.save(player);
+        IPlayerStateManager playerStateManager = plugin.getPlayerStateManager();
+        playerStateManager.updateState(player, state -> state.setKillOnJoin(true));
     }
 
     private void killOnQuit(@NotNull Player player, @NotNull List<Entity> enemyList) {
@@ -0,0 +1,44 @@
+package com.github.sirblobman.combatlogx.manager;
+
+import java.util.UUID;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An entry in the combat expiry queue.
+ * Each entry holds the time at which a tagged player should be checked for expiry.
+ */
+final class TagExpiry implements Delayed {
+    private final UUID playerId;
+    private final long expireMillis;
+
+    TagExpiry(@NotNull UUID playerId, long expireMillis) {
+        this.playerId = playerId;
+        this.expireMillis = expireMillis;
+    }
+
+    @NotNull UUID getPlayerId() {
+        return this.playerId;
+    }
+
+    @Override
+    public long getDelay(@NotNull TimeUnit unit) {
+        long systemMillis = System.currentTimeMillis();
+        long delayMillis = (this.expireMillis - systemMillis);
+        return unit.convert(delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(@NotNull Delayed other) {
+        if (other instanceof TagExpiry) {
+            TagExpiry otherExpiry = (TagExpiry) other;
+            return Long.compare(this.expireMillis, otherExpiry.expireMillis);
+        }
+
+        long thisDelay = getDelay(TimeUnit.MILLISECONDS);
+        long otherDelay = other.getDelay(TimeUnit.MILLISECONDS);
+        return Long.compare(thisDelay, otherDelay);
+    }
+}
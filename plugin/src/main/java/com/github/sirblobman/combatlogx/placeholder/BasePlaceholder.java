@@ -0,0 +1,118 @@
+package com.github.sirblobman.combatlogx.placeholder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A placeholder of {@link BasePlaceholderExpansion} that was parsed once, so repeated requests skip all parsing.
+ */
+final class BasePlaceholder {
+    private static final BasePlaceholder UNKNOWN = new BasePlaceholder(BasePlaceholderType.UNKNOWN);
+
+    private final BasePlaceholderType type;
+    private final int index;
+    private final EnemyPlaceholderType enemyType;
+    private final String enemyPlaceholder;
+
+    private BasePlaceholder(@NotNull BasePlaceholderType type) {
+        this(type, 0, null, null);
+    }
+
+    private BasePlaceholder(@NotNull BasePlaceholderType type, int index, @Nullable EnemyPlaceholderType enemyType,
+                            @Nullable String enemyPlaceholder) {
+        this.type = type;
+        this.index = index;
+        this.enemyType = enemyType;
+        this.enemyPlaceholder = enemyPlaceholder;
+    }
+
+    @NotNull BasePlaceholderType getType() {
+        return this.type;
+    }
+
+    /**
+     * @return The zero-based tag or enemy index for specific placeholders.
+     */
+    int getIndex() {
+        return this.index;
+    }
+
+    @Nullable EnemyPlaceholderType getEnemyType() {
+        return this.enemyType;
+    }
+
+    @Nullable String getEnemyPlaceholder() {
+        return this.enemyPlaceholder;
+    }
+
+    static @NotNull BasePlaceholder parse(@NotNull String placeholder) {
+        switch (placeholder) {
+            case "enemy_count":
+                return new BasePlaceholder(BasePlaceholderType.ENEMY_COUNT);
+            case "in_combat":
+                return new BasePlaceholder(BasePlaceholderType.IN_COMBAT);
+            case "player":
+                return new BasePlaceholder(BasePlaceholderType.PLAYER);
+            case "punishment_count":
+                return new BasePlaceholder(BasePlaceholderType.PUNISHMENT_COUNT);
+            case "status":
+                return new BasePlaceholder(BasePlaceholderType.STATUS);
+            case "tag_count":
+                return new BasePlaceholder(BasePlaceholderType.TAG_COUNT);
+            case "time_left":
+                return new BasePlaceholder(BasePlaceholderType.TIME_LEFT);
+            case "time_left_decimal":
+                return new BasePlaceholder(BasePlaceholderType.TIME_LEFT_DECIMAL);
+            default:
+                break;
+        }
+
+        if (placeholder.startsWith("time_left_")) {
+            if (placeholder.startsWith("time_left_decimal_")) {
+                String numberString = placeholder.substring("time_left_decimal_".length());
+                return parseSpecific(BasePlaceholderType.TIME_LEFT_DECIMAL_SPECIFIC, numberString, null);
+            }
+
+            String numberString = placeholder.substring("time_left_".length());
+            return parseSpecific(BasePlaceholderType.TIME_LEFT_SPECIFIC, numberString, null);
+        }
+
+        if (placeholder.startsWith("current_enemy_")) {
+            String enemyPlaceholder = placeholder.substring("current_enemy_".length());
+            EnemyPlaceholderType enemyType = EnemyPlaceholderType.parse(enemyPlaceholder);
+            return new BasePlaceholder(BasePlaceholderType.CURRENT_ENEMY, 0, enemyType, enemyPlaceholder);
+        }
+
+        if (placeholder.startsWith("specific_enemy_")) {
+            String subPlaceholder = placeholder.substring("specific_enemy_".length());
+            int nextUnderscore = subPlaceholder.indexOf('_');
+            if (nextUnderscore == -1) {
+                return UNKNOWN;
+            }
+
+            String enemyIdString = subPlaceholder.substring(0, nextUnderscore);
+            String enemyPlaceholder = subPlaceholder.substring(nextUnderscore + 1);
+            return parseSpecific(BasePlaceholderType.SPECIFIC_ENEMY, enemyIdString, enemyPlaceholder);
+        }
+
+        return UNKNOWN;
+    }
+
+    private static @NotNull BasePlaceholder parseSpecific(@NotNull BasePlaceholderType type,
+                                                          @NotNull String numberString,
+                                                          @Nullable String enemyPlaceholder) {
+        int index;
+        try {
+            index = (Integer.parseInt(numberString) - 1);
+        } catch (NumberFormatException ex) {
+            return UNKNOWN;
+        }
+
+        if (enemyPlaceholder == null) {
+            return new BasePlaceholder(type, index, null, null);
+        }
+
+        EnemyPlaceholderType enemyType = EnemyPlaceholderType.parse(enemyPlaceholder);
+        return new BasePlaceholder(type, index, enemyType, enemyPlaceholder);
+    }
+}
@@ -3,7 +3,9 @@ package com.github.sirblobman.combatlogx.placeholder;
 import java.text.DecimalFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.NotNull;
@@ -38,10 +40,14 @@ import com.github.sirblobman.api.shaded.adventure.text.serializer.legacy.LegacyC
 import me.clip.placeholderapi.PlaceholderAPI;
 
 public final class BasePlaceholderExpansion implements IPlaceholderExpansion {
+    private static final int MAX_PLACEHOLDER_CACHE_SIZE = 1024;
+
     private final ICombatLogX plugin;
+    private final Map<String, BasePlaceholder> placeholderMap;
 
     public BasePlaceholderExpansion(@NotNull ICombatLogX plugin) {
         this.plugin = plugin;
+        this.placeholderMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -57,114 +63,98 @@ public final class BasePlaceholderExpansion implements IPlaceholderExpansion {
     @Override
     public @Nullable Component getReplacement(@NotNull Player player, @NotNull List<Entity> enemyList,
                                               @NotNull String placeholder) {
-        switch (placeholder) {
-            case "enemy_count":
+        BasePlaceholder basePlaceholder = getBasePlaceholder(placeholder);
+        BasePlaceholderType type = basePlaceholder.getType();
+        switch (type) {
+            case ENEMY_COUNT:
                 return getEnemyCount(player);
-            case "in_combat":
+            case IN_COMBAT:
                 return getInCombat(player);
-            case "player":
+            case PLAYER:
                 return Component.text(player.getName());
-            case "punishment_count":
+            case PUNISHMENT_COUNT:
                 return getPunishmentCount(player);
-            case "status":
+            case STATUS:
                 return getStatus(player);
-            case "tag_count":
+            case TAG_COUNT:
                 return getTagCount(player);
-            case "time_left":
+            case TIME_LEFT:
                 return getTimeLeft(player);
-            case "time_left_decimal":
+            case TIME_LEFT_DECIMAL:
                 return getTimeLeftDecimal(player);
+            case TIME_LEFT_SPECIFIC:
+                return getTimeLeftSpecific(player, basePlaceholder.getIndex());
+            case TIME_LEFT_DECIMAL_SPECIFIC:
+                return getTimeLeftDecimalSpecific(player, basePlaceholder.getIndex());
+            case CURRENT_ENEMY:
+            case SPECIFIC_ENEMY:
+                Entity enemy = getSpecificEnemy(enemyList, basePlaceholder.getIndex());
+                return getEnemyPlaceholder(player, enemy, basePlaceholder);
             default:
-                break;
-        }
-
-        if (placeholder.startsWith("time_left_")) {
-            if (placeholder.startsWith("time_left_decimal_")) {
-                String numberString = placeholder.substring("time_left_decimal_".length());
-                try {
-                    int index = (Integer.parseInt(numberString) - 1);
-                    return getTimeLeftDecimalSpecific(player, index);
-                } catch (NumberFormatException ex) {
-                    return null;
-                }
-            }
-
-            String numberString = placeholder.substring("time_left_".length());
-            try {
-                int index = (Integer.parseInt(numberString) - 1);
-                return getTimeLeftSpecific(player, index);
-            } catch (NumberFormatException ex) {
                 return null;
-            }
         }
+    }
 
-        if (placeholder.startsWith("current_enemy_")) {
-            Entity currentEnemy = getSpecificEnemy(enemyList, 0);
-            String enemyPlaceholder = placeholder.substring("current_enemy_".length());
-            return getEnemyPlaceholder(player, currentEnemy, enemyPlaceholder);
+    private @NotNull BasePlaceholder getBasePlaceholder(@NotNull String placeholder) {
+        BasePlaceholder basePlaceholder = this.placeholderMap.get(placeholder);
+        if (basePlaceholder != null) {
+            return basePlaceholder;
         }
 
-        if (placeholder.startsWith("specific_enemy_")) {
-            String subPlaceholder = placeholder.substring("specific_enemy_".length());
-            int nextUnderscore = subPlaceholder.indexOf('_');
-            if (nextUnderscore == -1) {
-                return null;
-            }
-
-            int enemyIndex;
-            try {
-                String enemyIdString = subPlaceholder.substring(0, nextUnderscore);
-                enemyIndex = (Integer.parseInt(enemyIdString) - 1);
-            } catch (NumberFormatException ex) {
-                return null;
-            }
-
-            Entity specificEnemy = getSpecificEnemy(enemyList, enemyIndex);
-            String enemyPlaceholder = subPlaceholder.substring(nextUnderscore + 1);
-            return getEnemyPlaceholder(player, specificEnemy, enemyPlaceholder);
+        // Enemy placeholders can be any PlaceholderAPI placeholder, so the cache is limited.
+        if (this.placeholderMap.size() >= MAX_PLACEHOLDER_CACHE_SIZE) {
+            this.placeholderMap.clear();
         }
 
-        return null;
+        basePlaceholder = BasePlaceholder.parse(placeholder);
+        this.placeholderMap.put(placeholder, basePlaceholder);
+        return basePlaceholder;
     }
 
     private @Nullable Component getEnemyPlaceholder(@NotNull Player player, @Nullable Entity enemy,
-                                                    @NotNull String placeholder) {
+                                                    @NotNull BasePlaceholder placeholder) {
         if (enemy == null) {
             return getUnknownEnemy(player);
         }
 
-        switch (placeholder) {
-            case "name":
+        EnemyPlaceholderType enemyType = placeholder.getEnemyType();
+        if (enemyType == null) {
+            return null;
+        }
+
+        switch (enemyType) {
+            case NAME:
                 return getEnemyName(enemy);
-            case "type":
+            case TYPE:
                 return getEnemyType(enemy);
-            case "display_name":
+            case DISPLAY_NAME:
                 return getEnemyDisplayName(enemy);
-            case "health":
+            case HEALTH:
                 return getEnemyHealth(player, enemy);
-            case "health_rounded":
+            case HEALTH_ROUNDED:
                 return getEnemyHealthRounded(enemy);
-            case "hearts":
+            case HEARTS:
                 return getEnemyHearts(enemy);
-            case "hearts_count":
+            case HEARTS_COUNT:
                 return getEnemyHeartsCount(enemy);
-            case "world":
+            case WORLD:
                 return getEnemyWorld(enemy);
-            case "x":
+            case X:
                 return getEnemyX(enemy);
-            case "y":
+            case Y:
                 return getEnemyY(enemy);
-            case "z":
+            case Z:
                 return getEnemyZ(enemy);
             default:
                 break;
         }
 
+        String enemyPlaceholder = placeholder.getEnemyPlaceholder();
         PluginManager pluginManager = Bukkit.getPluginManager();
-        if (pluginManager.isPluginEnabled("PlaceholderAPI") && enemy instanceof Player) {
+        if (enemyPlaceholder != null && pluginManager.isPluginEnabled("PlaceholderAPI") && enemy instanceof Player) {
             Player enemyPlayer = (Player) enemy;
             if (enemyPlayer.isOnline()) {
-                return getEnemyPlaceholderAPI(enemyPlayer, placeholder);
+                return getEnemyPlaceholderAPI(enemyPlayer, enemyPlaceholder);
             }
         }
 
@@ -0,0 +1,20 @@
+package com.github.sirblobman.combatlogx.placeholder;
+
+/**
+ * The placeholders that are provided by {@link BasePlaceholderExpansion}.
+ */
+enum BasePlaceholderType {
+    ENEMY_COUNT,
+    IN_COMBAT,
+    PLAYER,
+    PUNISHMENT_COUNT,
+    STATUS,
+    TAG_COUNT,
+    TIME_LEFT,
+    TIME_LEFT_DECIMAL,
+    TIME_LEFT_SPECIFIC,
+    TIME_LEFT_DECIMAL_SPECIFIC,
+    CURRENT_ENEMY,
+    SPECIFIC_ENEMY,
+    UNKNOWN
+}
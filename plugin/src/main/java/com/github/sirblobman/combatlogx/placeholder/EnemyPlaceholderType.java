@@ -0,0 +1,51 @@
+package com.github.sirblobman.combatlogx.placeholder;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The enemy placeholders that are provided by {@link BasePlaceholderExpansion}.
+ * Any other enemy placeholder is sent to PlaceholderAPI for player enemies.
+ */
+enum EnemyPlaceholderType {
+    NAME,
+    TYPE,
+    DISPLAY_NAME,
+    HEALTH,
+    HEALTH_ROUNDED,
+    HEARTS,
+    HEARTS_COUNT,
+    WORLD,
+    X,
+    Y,
+    Z,
+    PLACEHOLDER_API;
+
+    static @NotNull EnemyPlaceholderType parse(@NotNull String placeholder) {
+        switch (placeholder) {
+            case "name":
+                return NAME;
+            case "type":
+                return TYPE;
+            case "display_name":
+                return DISPLAY_NAME;
+            case "health":
+                return HEALTH;
+            case "health_rounded":
+                return HEALTH_ROUNDED;
+            case "hearts":
+                return HEARTS;
+            case "hearts_count":
+                return HEARTS_COUNT;
+            case "world":
+                return WORLD;
+            case "x":
+                return X;
+            case "y":
+                return Y;
+            case "z":
+                return Z;
+            default:
+                return PLACEHOLDER_API;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.sirblobman.combatlogx.storage;
+
+import java.io.File;
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.sirblobman.api.configuration.PlayerDataManager;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+
+/**
+ * The location of the YAML player data files.
+ * The {@link PlayerDataManager} does not expose its files, so this layout must match the one it uses:
+ * one {@code <uuid>.yml} file per player in the {@code player-data} folder of the plugin.
+ * Every class that reads or writes player data files directly must use these methods.
+ */
+public final class PlayerDataFiles {
+    private static final String FOLDER_NAME = "player-data";
+    private static final String FILE_EXTENSION = ".yml";
+
+    public static @NotNull File getFolder(@NotNull ICombatLogX plugin) {
+        File dataFolder = plugin.getDataFolder();
+        return new File(dataFolder, FOLDER_NAME);
+    }
+
+    public static @NotNull File getFile(@NotNull File folder, @NotNull UUID playerId) {
+        return new File(folder, playerId + FILE_EXTENSION);
+    }
+
+    public static @NotNull File getTempFile(@NotNull File folder, @NotNull UUID playerId) {
+        return new File(folder, playerId + FILE_EXTENSION + ".tmp");
+    }
+
+    public static boolean isPlayerDataFile(@NotNull String fileName) {
+        return fileName.endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * @return The unique id of the player that owns a data file, or {@code null} if the name is not a unique id.
+     */
+    public static @Nullable UUID getPlayerId(@NotNull File file) {
+        String fileName = file.getName();
+        if (!isPlayerDataFile(fileName)) {
+            return null;
+        }
+
+        String uuidString = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        try {
+            return UUID.fromString(uuidString);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.github.sirblobman.combatlogx.storage;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
+import com.github.sirblobman.combatlogx.api.object.StorageType;
+import com.github.sirblobman.combatlogx.api.storage.PlayerStateStorage;
+
+/**
+ * Stores the state of all players in a single SQLite database file.
+ * The SQLite driver is provided by the server software, so no extra library is needed.
+ * All queries run in order on one background thread with one connection.
+ * SQLite only allows one writer at a time, so a connection pool would not make saves faster.
+ * Saves that are requested while the thread is busy are written together in a single transaction.
+ */
+public final class SQLitePlayerStateStorage implements PlayerStateStorage {
+    private static final String TABLE_NAME = "combatlogx_player_state";
+    private static final String META_TABLE_NAME = "combatlogx_meta";
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " ("
+            + "uuid VARCHAR(36) NOT NULL PRIMARY KEY, "
+            + "actionbar BOOLEAN NOT NULL, "
+            + "bossbar BOOLEAN NOT NULL, "
+            + "scoreboard BOOLEAN NOT NULL, "
+            + "forgive_toggle BOOLEAN NOT NULL, "
+            + "punishment_count BIGINT NOT NULL, "
+            + "kill_on_join BOOLEAN NOT NULL, "
+            + "newbie_protected BOOLEAN NOT NULL, "
+            + "newbie_protection_expire_time BIGINT NOT NULL, "
+            + "newbie_pvp_toggle BOOLEAN NULL)";
+    private static final String CREATE_META_TABLE = "CREATE TABLE IF NOT EXISTS " + META_TABLE_NAME + " ("
+            + "meta_key VARCHAR(64) NOT NULL PRIMARY KEY, "
+            + "meta_value VARCHAR(255) NOT NULL)";
+
+    private static final String SELECT = "SELECT * FROM " + TABLE_NAME + " WHERE uuid = ?";
+    private static final String COLUMNS = "(uuid, actionbar, bossbar, scoreboard, forgive_toggle, punishment_count, "
+            + "kill_on_join, newbie_protected, newbie_protection_expire_time, newbie_pvp_toggle) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT = "INSERT OR REPLACE INTO " + TABLE_NAME + " " + COLUMNS;
+    private static final String INSERT_IF_MISSING = "INSERT OR IGNORE INTO " + TABLE_NAME + " " + COLUMNS;
+
+    private final ICombatLogX plugin;
+    private final File databaseFile;
+    private final Map<UUID, CombatPlayerState> pendingMap;
+    private final ExecutorService executor;
+    private Connection connection;
+
+    public SQLitePlayerStateStorage(@NotNull ICombatLogX plugin) {
+        this.plugin = plugin;
+        this.databaseFile = new File(plugin.getDataFolder(), "player-data.db");
+        this.pendingMap = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CombatLogX Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.connection = null;
+    }
+
+    @Override
+    public @NotNull StorageType getType() {
+        return StorageType.SQLITE;
+    }
+
+    @Override
+    public void enable() throws Exception {
+        Class.forName("org.sqlite.JDBC");
+        String url = ("jdbc:sqlite:" + this.databaseFile.getAbsolutePath());
+
+        // The connection is opened on the storage thread, which is the only thread that uses it.
+        this.executor.submit(() -> {
+            this.connection = DriverManager.getConnection(url);
+            try (Statement statement = this.connection.createStatement()) {
+                statement.executeUpdate(CREATE_TABLE);
+                statement.executeUpdate(CREATE_META_TABLE);
+            }
+
+            return null;
+        }).get();
+
+        MainConfiguration configuration = this.plugin.getConfiguration();
+        if (configuration.isMigrateYamlStorage()) {
+            // The migration is finished before the storage is used, so a load never waits behind it.
+            YamlStorageMigration migration = new YamlStorageMigration(this.plugin, this);
+            this.executor.submit(migration).get();
+        }
+    }
+
+    @Override
+    public void disable() {
+        this.executor.execute(this::flushPending);
+        this.executor.execute(this::closeConnection);
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(10L, TimeUnit.SECONDS)) {
+                Logger logger = getLogger();
+                logger.warning("Timed out while waiting for the player state storage to finish saving.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isAsyncLoadSupported() {
+        return true;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<CombatPlayerState> load(@NotNull OfflinePlayer player) {
+        UUID playerId = player.getUniqueId();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return select(playerId);
+            } catch (SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        }, this.executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> save(@NotNull Collection<CombatPlayerState> states) {
+        for (CombatPlayerState state : states) {
+            UUID playerId = state.getPlayerId();
+            this.pendingMap.put(playerId, state);
+        }
+
+        // Each flush writes everything that is waiting, so flushes queued behind a busy thread are very cheap.
+        return CompletableFuture.runAsync(this::flushPending, this.executor);
+    }
+
+    boolean isMigrated() throws SQLException {
+        String sql = ("SELECT meta_value FROM " + META_TABLE_NAME + " WHERE meta_key = 'yaml-migrated'");
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next();
+        }
+    }
+
+    void setMigrated() throws SQLException {
+        String sql = ("INSERT OR REPLACE INTO " + META_TABLE_NAME + " (meta_key, meta_value) VALUES (?, ?)");
+        try (PreparedStatement statement = this.connection.prepareStatement(sql)) {
+            statement.setString(1, "yaml-migrated");
+            statement.setString(2, Long.toString(System.currentTimeMillis()));
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Insert states for players that do not have a row yet. This must only be called on the storage thread.
+     */
+    void insertMissing(@NotNull List<CombatPlayerState> stateList) throws SQLException {
+        executeBatch(INSERT_IF_MISSING, stateList);
+    }
+
+    @NotNull Logger getLogger() {
+        return this.plugin.getLogger();
+    }
+
+    private @NotNull CombatPlayerState select(@NotNull UUID playerId) throws SQLException {
+        // A state that is still waiting to be saved is newer than the row in the database.
+        CombatPlayerState pendingState = this.pendingMap.get(playerId);
+        if (pendingState != null) {
+            return pendingState;
+        }
+
+        CombatPlayerState state = new CombatPlayerState(playerId);
+        try (PreparedStatement statement = this.connection.prepareStatement(SELECT)) {
+            statement.setString(1, playerId.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return state;
+                }
+
+                // The same keys as the YAML storage are used, so both storages share a single mapping.
+                MemoryConfiguration section = new MemoryConfiguration();
+                section.set("actionbar", resultSet.getBoolean("actionbar"));
+                section.set("bossbar", resultSet.getBoolean("bossbar"));
+                section.set("scoreboard", resultSet.getBoolean("scoreboard"));
+                section.set("forgive-toggle", resultSet.getBoolean("forgive_toggle"));
+                section.set("punishment-count", resultSet.getLong("punishment_count"));
+                section.set("kill-on-join", resultSet.getBoolean("kill_on_join"));
+                section.set("newbie-helper.protected", resultSet.getBoolean("newbie_protected"));
+                section.set("newbie-helper.protection-expire-time",
+                        resultSet.getLong("newbie_protection_expire_time"));
+
+                boolean pvpToggle = resultSet.getBoolean("newbie_pvp_toggle");
+                section.set("newbie-helper.pvp-toggle", resultSet.wasNull() ? null : pvpToggle);
+                state.load(section);
+            }
+        }
+
+        return state;
+    }
+
+    private void flushPending() {
+        if (this.pendingMap.isEmpty() || this.connection == null) {
+            return;
+        }
+
+        List<CombatPlayerState> stateList = new ArrayList<>();
+        for (UUID playerId : this.pendingMap.keySet()) {
+            CombatPlayerState state = this.pendingMap.remove(playerId);
+            if (state != null && state.clearDirty()) {
+                stateList.add(state);
+            }
+        }
+
+        try {
+            executeBatch(UPSERT, stateList);
+        } catch (SQLException ex) {
+            Logger logger = getLogger();
+            logger.log(Level.WARNING, "Failed to save " + stateList.size() + " player states:", ex);
+        }
+    }
+
+    private void executeBatch(@NotNull String sql, @NotNull List<CombatPlayerState> stateList) throws SQLException {
+        if (stateList.isEmpty()) {
+            return;
+        }
+
+        Connection connection = this.connection;
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (CombatPlayerState state : stateList) {
+                setValues(statement, state);
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void setValues(@NotNull PreparedStatement statement, @NotNull CombatPlayerState state)
+            throws SQLException {
+        UUID playerId = state.getPlayerId();
+        statement.setString(1, playerId.toString());
+        statement.setBoolean(2, state.isActionBarEnabled());
+        statement.setBoolean(3, state.isBossBarEnabled());
+        statement.setBoolean(4, state.isScoreboardEnabled());
+        statement.setBoolean(5, state.getForgiveToggle());
+        statement.setLong(6, state.getPunishmentCount());
+        statement.setBoolean(7, state.isKillOnJoin());
+        statement.setBoolean(8, state.isNewbieProtected());
+        statement.setLong(9, state.getNewbieProtectionExpireMillis());
+
+        Boolean pvpToggle = state.getNewbiePvpToggle();
+        if (pvpToggle == null) {
+            statement.setNull(10, Types.BOOLEAN);
+        } else {
+            statement.setBoolean(10, pvpToggle);
+        }
+    }
+
+    private void closeConnection() {
+        Connection connection = this.connection;
+        this.connection = null;
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            Logger logger = getLogger();
+            logger.log(Level.WARNING, "Failed to close the player state database:", ex);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.sirblobman.combatlogx.storage;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import com.github.sirblobman.api.configuration.PlayerDataManager;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.IPlayerStateManager;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
+import com.github.sirblobman.combatlogx.api.object.StorageType;
+import com.github.sirblobman.combatlogx.api.storage.PlayerStateStorage;
+
+/**
+ * Stores the state of each player in their YAML player data file.
+ * The player data manager is only used from the thread that calls this storage,
+ * so loading while a player logs in is not supported.
+ */
+public final class YamlPlayerStateStorage implements PlayerStateStorage {
+    private final ICombatLogX plugin;
+
+    public YamlPlayerStateStorage(@NotNull ICombatLogX plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull StorageType getType() {
+        return StorageType.YAML;
+    }
+
+    @Override
+    public void enable() {
+        // The player data manager is always ready.
+    }
+
+    @Override
+    public void disable() {
+        // Player data files are saved by the player state manager.
+    }
+
+    @Override
+    public boolean isAsyncLoadSupported() {
+        return false;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<CombatPlayerState> load(@NotNull OfflinePlayer player) {
+        UUID playerId = player.getUniqueId();
+        CombatPlayerState state = new CombatPlayerState(playerId);
+
+        PlayerDataManager playerDataManager = getPlayerDataManager();
+        if (playerDataManager.hasData(player)) {
+            YamlConfiguration playerData = playerDataManager.get(player);
+            state.load(playerData);
+        }
+
+        return CompletableFuture.completedFuture(state);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> save(@NotNull Collection<CombatPlayerState> states) {
+        PlayerDataManager playerDataManager = getPlayerDataManager();
+        IPlayerStateManager playerStateManager = this.plugin.getPlayerStateManager();
+        for (CombatPlayerState state : states) {
+            UUID playerId = state.getPlayerId();
+            OfflinePlayer player = Bukkit.getOfflinePlayer(playerId);
+
+            YamlConfiguration playerData = playerDataManager.get(player);
+            if (state.save(playerData)) {
+                playerStateManager.savePlayerData(player);
+            }
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private @NotNull PlayerDataManager getPlayerDataManager() {
+        return this.plugin.getPlayerDataManager();
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.sirblobman.combatlogx.storage;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.object.CombatPlayerState;
+
+/**
+ * Copies the state of every player from the YAML player data folder into the database.
+ * The migration only runs once, and rows that already exist in the database are not replaced.
+ * This task must run on the storage thread, and the storage waits for it while it is enabled.
+ */
+final class YamlStorageMigration implements Runnable {
+    private static final int BATCH_SIZE = 500;
+
+    private final ICombatLogX plugin;
+    private final SQLitePlayerStateStorage storage;
+
+    YamlStorageMigration(@NotNull ICombatLogX plugin, @NotNull SQLitePlayerStateStorage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+    }
+
+    @Override
+    public void run() {
+        Logger logger = this.storage.getLogger();
+        try {
+            if (this.storage.isMigrated()) {
+                return;
+            }
+
+            File playerDataFolder = PlayerDataFiles.getFolder(this.plugin);
+            File[] fileArray = playerDataFolder.listFiles((folder, fileName) ->
+                    PlayerDataFiles.isPlayerDataFile(fileName));
+            if (fileArray == null) {
+                fileArray = new File[0];
+            }
+
+            logger.info("Migrating " + fileArray.length + " YAML player data files to the database...");
+            List<CombatPlayerState> batch = new ArrayList<>();
+            int migratedCount = 0;
+            for (File file : fileArray) {
+                CombatPlayerState state = loadState(file);
+                if (state == null) {
+                    continue;
+                }
+
+                batch.add(state);
+                if (batch.size() >= BATCH_SIZE) {
+                    this.storage.insertMissing(batch);
+                    migratedCount += batch.size();
+                    batch.clear();
+                    logger.info("Migrated " + migratedCount + "/" + fileArray.length + " players...");
+                }
+            }
+
+            this.storage.insertMissing(batch);
+            migratedCount += batch.size();
+
+            this.storage.setMigrated();
+            logger.info("Migrated " + migratedCount + " players to the database.");
+        } catch (SQLException ex) {
+            logger.log(Level.WARNING, "Failed to migrate YAML player data to the database:", ex);
+        }
+    }
+
+    private @Nullable CombatPlayerState loadState(@NotNull File file) {
+        UUID playerId = PlayerDataFiles.getPlayerId(file);
+        if (playerId == null) {
+            return null;
+        }
+
+        // A new configuration is loaded for each file, so the player data manager is never used off-thread.
+        YamlConfiguration configuration = YamlConfiguration.loadConfiguration(file);
+        CombatPlayerState state = new CombatPlayerState(playerId);
+        state.load(configuration);
+        return state;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.sirblobman.combatlogx.task;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.api.folia.details.TaskDetails;
+import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.manager.ICooldownManager;
+
+/**
+ * This task removes expired cooldowns from the cooldown manager. It runs every 30 seconds.
+ */
+public final class CooldownTask extends TaskDetails implements Runnable {
+    private final ICombatLogX plugin;
+
+    public CooldownTask(@NotNull ICombatLogX plugin) {
+        super(plugin.getPlugin());
+        this.plugin = plugin;
+    }
+
+    public void register() {
+        ICombatLogX plugin = getCombatLogX();
+        TaskScheduler scheduler = plugin.getFoliaHelper().getScheduler();
+
+        setDelay(600L);
+        setPeriod(600L);
+        scheduler.scheduleTask(this);
+    }
+
+    @Override
+    public void run() {
+        ICombatLogX plugin = getCombatLogX();
+        ICooldownManager cooldownManager = plugin.getCooldownManager();
+        cooldownManager.removeExpired();
+    }
+
+    private @NotNull ICombatLogX getCombatLogX() {
+        return this.plugin;
+    }
+}
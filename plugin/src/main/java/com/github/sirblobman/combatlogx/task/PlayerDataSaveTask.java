@@ -0,0 +1,46 @@
+package com.github.sirblobman.combatlogx.task;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.api.folia.details.TaskDetails;
+import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.manager.PlayerStateManager;
+
+/**
+ * This task saves changed player data that is older than the save interval. It runs every second.
+ * See {@link PlayerStateManager#saveChanged(boolean)}.
+ */
+public final class PlayerDataSaveTask extends TaskDetails implements Runnable {
+    private final ICombatLogX plugin;
+    private final PlayerStateManager playerStateManager;
+
+    public PlayerDataSaveTask(@NotNull ICombatLogX plugin, @NotNull PlayerStateManager playerStateManager) {
+        super(plugin.getPlugin());
+        this.plugin = plugin;
+        this.playerStateManager = playerStateManager;
+    }
+
+    public void register() {
+        ICombatLogX plugin = getCombatLogX();
+        TaskScheduler scheduler = plugin.getFoliaHelper().getScheduler();
+
+        setDelay(20L);
+        setPeriod(20L);
+        scheduler.scheduleTask(this);
+    }
+
+    @Override
+    public void run() {
+        PlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.saveChanged(false);
+    }
+
+    private @NotNull ICombatLogX getCombatLogX() {
+        return this.plugin;
+    }
+
+    private @NotNull PlayerStateManager getPlayerStateManager() {
+        return this.playerStateManager;
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.sirblobman.combatlogx.task;
+
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+
+import com.github.sirblobman.api.folia.details.TaskDetails;
+import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.manager.PlayerStateManager;
+
+/**
+ * Unloads the state of a player one tick after they left the server.
+ * Quit listeners such as the combat punishment still change the state while the player is leaving,
+ * so it must stay loaded until all of them ran.
+ */
+public final class PlayerStateUnloadTask extends TaskDetails {
+    private final ICombatLogX plugin;
+    private final PlayerStateManager playerStateManager;
+    private final UUID playerId;
+
+    public PlayerStateUnloadTask(@NotNull ICombatLogX plugin, @NotNull PlayerStateManager playerStateManager,
+                                 @NotNull UUID playerId) {
+        super(plugin.getPlugin());
+        this.plugin = plugin;
+        this.playerStateManager = playerStateManager;
+        this.playerId = playerId;
+    }
+
+    public void register() {
+        ICombatLogX plugin = getCombatLogX();
+        TaskScheduler scheduler = plugin.getFoliaHelper().getScheduler();
+
+        setDelay(1L);
+        scheduler.scheduleTask(this);
+    }
+
+    @Override
+    public void run() {
+        // The player joined again before this task ran, so the loaded state is still in use.
+        Player onlinePlayer = Bukkit.getPlayer(this.playerId);
+        if (onlinePlayer != null) {
+            return;
+        }
+
+        OfflinePlayer player = Bukkit.getOfflinePlayer(this.playerId);
+        PlayerStateManager playerStateManager = getPlayerStateManager();
+        playerStateManager.unloadState(player);
+    }
+
+    private @NotNull ICombatLogX getCombatLogX() {
+        return this.plugin;
+    }
+
+    private @NotNull PlayerStateManager getPlayerStateManager() {
+        return this.playerStateManager;
+    }
+}
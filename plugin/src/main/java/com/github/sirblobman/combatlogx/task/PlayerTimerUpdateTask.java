@@ -0,0 +1,34 @@
+package com.github.sirblobman.combatlogx.task;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.bukkit.entity.Player;
+
+import com.github.sirblobman.api.folia.details.EntityTaskDetails;
+import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.object.TimerUpdater;
+
+/**
+ * Runs the timer updaters for a single player on the scheduler that owns the player.
+ */
+public final class PlayerTimerUpdateTask extends EntityTaskDetails<Player> {
+    private final TimerUpdateTask timerUpdateTask;
+    private final List<TimerUpdater> updaterList;
+
+    public PlayerTimerUpdateTask(@NotNull ICombatLogX plugin, @NotNull Player entity,
+                                 @NotNull TimerUpdateTask timerUpdateTask, @NotNull List<TimerUpdater> updaterList) {
+        super(plugin.getPlugin(), entity);
+        this.timerUpdateTask = timerUpdateTask;
+        this.updaterList = updaterList;
+    }
+
+    @Override
+    public void run() {
+        Player entity = getEntity();
+        if (entity != null) {
+            this.timerUpdateTask.updateScheduled(entity, this.updaterList);
+        }
+    }
+}
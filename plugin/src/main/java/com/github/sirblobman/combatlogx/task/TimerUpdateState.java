@@ -0,0 +1,28 @@
+package com.github.sirblobman.combatlogx.task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.sirblobman.combatlogx.api.object.TimerUpdater;
+
+/**
+ * The last display step of each timer updater for a single player.
+ * This state is only used by the timer update task.
+ */
+final class TimerUpdateState {
+    private final Map<TimerUpdater, Long> stepMap;
+
+    TimerUpdateState() {
+        this.stepMap = new HashMap<>();
+    }
+
+    /**
+     * @return {@code true} if the step is different from the last step of the updater.
+     */
+    boolean checkStep(@NotNull TimerUpdater timerUpdater, long step) {
+        Long previousStep = this.stepMap.put(timerUpdater, step);
+        return (previousStep == null || previousStep != step);
+    }
+}
@@ -1,30 +1,48 @@
 package com.github.sirblobman.combatlogx.task;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.jetbrains.annotations.NotNull;
 
 import org.bukkit.entity.Player;
 
+import com.github.sirblobman.api.folia.FoliaHelper;
 import com.github.sirblobman.api.folia.details.TaskDetails;
 import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
+import com.github.sirblobman.combatlogx.api.configuration.MainConfiguration;
 import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
 import com.github.sirblobman.combatlogx.api.manager.ITimerManager;
 import com.github.sirblobman.combatlogx.api.object.TagInformation;
 import com.github.sirblobman.combatlogx.api.object.TimerUpdater;
 
 public final class TimerUpdateTask extends TaskDetails implements ITimerManager {
+    /**
+     * The task runs every 2 ticks, fixed updates are done every 5 runs (10 ticks).
+     */
+    private static final long TASK_PERIOD = 2L;
+    private static final long FIXED_UPDATE_RUNS = 5L;
+
     private final ICombatLogX plugin;
     private final Set<TimerUpdater> timerUpdaterSet;
+    private final Set<UUID> pendingPlayerSet;
+    private final Map<UUID, TimerUpdateState> stateMap;
+    private long runCount;
 
     public TimerUpdateTask(@NotNull ICombatLogX plugin) {
         super(plugin.getPlugin());
         this.plugin = plugin;
-        this.timerUpdaterSet = new HashSet<>();
+        this.timerUpdaterSet = new CopyOnWriteArraySet<>();
+        this.pendingPlayerSet = ConcurrentHashMap.newKeySet();
+        this.stateMap = new ConcurrentHashMap<>();
+        this.runCount = 0L;
     }
 
     @Override
@@ -44,13 +62,44 @@ public final class TimerUpdateTask extends TaskDetails implements ITimerManager
 
     @Override
     public void run() {
+        this.runCount++;
+        boolean fixedRun = (this.runCount % FIXED_UPDATE_RUNS == 0L);
+        boolean adaptive = isAdaptive();
+        if (!fixedRun && !adaptive) {
+            return;
+        }
+
         ICombatManager combatManager = this.plugin.getCombatManager();
         List<Player> playerCombatList = combatManager.getPlayersInCombat();
-        playerCombatList.forEach(this::update);
+
+        FoliaHelper foliaHelper = this.plugin.getFoliaHelper();
+        boolean folia = foliaHelper.isFolia();
+        for (Player player : playerCombatList) {
+            UUID playerId = player.getUniqueId();
+            if (folia && this.pendingPlayerSet.contains(playerId)) {
+                continue;
+            }
+
+            List<TimerUpdater> updaterList = getDueUpdaters(player, adaptive, fixedRun);
+            if (updaterList.isEmpty()) {
+                continue;
+            }
+
+            if (folia) {
+                scheduleUpdate(player, updaterList);
+            } else {
+                update(player, updaterList);
+            }
+        }
     }
 
     @Override
     public void remove(@NotNull Player player) {
+        // The entity scheduler drops waiting tasks when a player leaves, so a waiting update is forgotten here.
+        UUID playerId = player.getUniqueId();
+        this.pendingPlayerSet.remove(playerId);
+        this.stateMap.remove(playerId);
+
         Set<TimerUpdater> timerUpdaterSet = getTimerUpdaters();
         for (TimerUpdater timerUpdater : timerUpdaterSet) {
             timerUpdater.remove(player);
@@ -62,11 +111,73 @@ public final class TimerUpdateTask extends TaskDetails implements ITimerManager
         TaskScheduler scheduler = plugin.getFoliaHelper().getScheduler();
 
         setDelay(5L);
-        setPeriod(10L);
+        setPeriod(TASK_PERIOD);
         scheduler.scheduleTask(this);
     }
 
-    private void update(@NotNull Player player) {
+    private boolean isAdaptive() {
+        ICombatLogX plugin = getCombatLogX();
+        MainConfiguration configuration = plugin.getConfiguration();
+        return configuration.isAdaptiveTimerUpdates();
+    }
+
+    /**
+     * In adaptive mode, an updater is only due when its display step changed since the last update.
+     * Updaters without a display step are updated on fixed runs, the same as when adaptive mode is disabled.
+     */
+    private @NotNull List<TimerUpdater> getDueUpdaters(@NotNull Player player, boolean adaptive, boolean fixedRun) {
+        Set<TimerUpdater> timerUpdaterSet = getTimerUpdaters();
+        if (!adaptive) {
+            return new ArrayList<>(timerUpdaterSet);
+        }
+
+        ICombatLogX plugin = getCombatLogX();
+        ICombatManager combatManager = plugin.getCombatManager();
+        TagInformation tagInformation = combatManager.getTagInformation(player);
+        if (tagInformation == null || tagInformation.isExpired()) {
+            return Collections.emptyList();
+        }
+
+        UUID playerId = player.getUniqueId();
+        TimerUpdateState state = this.stateMap.computeIfAbsent(playerId, key -> new TimerUpdateState());
+        long timeLeftMillis = tagInformation.getMillisLeftCombined();
+
+        List<TimerUpdater> updaterList = new ArrayList<>();
+        for (TimerUpdater timerUpdater : timerUpdaterSet) {
+            long step = timerUpdater.getDisplayStep(player, timeLeftMillis);
+            boolean due = (step < 0L ? fixedRun : state.checkStep(timerUpdater, step));
+            if (due) {
+                updaterList.add(timerUpdater);
+            }
+        }
+
+        return updaterList;
+    }
+
+    /**
+     * On Folia, each player is owned by a region thread.
+     * The update for each player is posted to their entity scheduler, so regions are updated in parallel.
+     * A player that still has an update waiting (for example in a lagging region) is skipped.
+     */
+    private void scheduleUpdate(@NotNull Player player, @NotNull List<TimerUpdater> updaterList) {
+        UUID playerId = player.getUniqueId();
+        if (!this.pendingPlayerSet.add(playerId)) {
+            return;
+        }
+
+        ICombatLogX plugin = getCombatLogX();
+        PlayerTimerUpdateTask task = new PlayerTimerUpdateTask(plugin, player, this, updaterList);
+        TaskScheduler scheduler = plugin.getFoliaHelper().getScheduler();
+        scheduler.scheduleEntityTask(task);
+    }
+
+    void updateScheduled(@NotNull Player player, @NotNull List<TimerUpdater> updaterList) {
+        UUID playerId = player.getUniqueId();
+        this.pendingPlayerSet.remove(playerId);
+        update(player, updaterList);
+    }
+
+    private void update(@NotNull Player player, @NotNull List<TimerUpdater> updaterList) {
         ICombatLogX plugin = getCombatLogX();
         ICombatManager combatManager = plugin.getCombatManager();
         TagInformation tagInformation = combatManager.getTagInformation(player);
@@ -79,8 +190,7 @@ public final class TimerUpdateTask extends TaskDetails implements ITimerManager
         }
 
         long timeLeftMillis = tagInformation.getMillisLeftCombined();
-        Set<TimerUpdater> timerUpdaterSet = getTimerUpdaters();
-        for (TimerUpdater timerUpdater : timerUpdaterSet) {
+        for (TimerUpdater timerUpdater : updaterList) {
             timerUpdater.update(player, timeLeftMillis);
         }
     }
@@ -1,27 +1,24 @@
 package com.github.sirblobman.combatlogx.task;
 
-import java.util.List;
-
 import org.jetbrains.annotations.NotNull;
 
-import org.bukkit.entity.Player;
-
 import com.github.sirblobman.api.folia.details.TaskDetails;
 import com.github.sirblobman.api.folia.scheduler.TaskScheduler;
 import com.github.sirblobman.combatlogx.api.ICombatLogX;
-import com.github.sirblobman.combatlogx.api.manager.ICombatManager;
-import com.github.sirblobman.combatlogx.api.object.TagInformation;
-import com.github.sirblobman.combatlogx.api.object.UntagReason;
+import com.github.sirblobman.combatlogx.manager.CombatManager;
 
 /**
  * This task is used to untag players from combat. It runs every 10 ticks.
+ * Only players with an expired combat timer are checked, see {@link CombatManager#untagExpired()}.
  */
 public final class UntagTask extends TaskDetails implements Runnable {
     private final ICombatLogX plugin;
+    private final CombatManager combatManager;
 
-    public UntagTask(@NotNull ICombatLogX plugin) {
+    public UntagTask(@NotNull ICombatLogX plugin, @NotNull CombatManager combatManager) {
         super(plugin.getPlugin());
         this.plugin = plugin;
+        this.combatManager = combatManager;
     }
 
     public void register() {
@@ -35,19 +32,15 @@ public final class UntagTask extends TaskDetails implements Runnable {
 
     @Override
     public void run() {
-        ICombatLogX plugin = getCombatLogX();
-        ICombatManager combatManager = plugin.getCombatManager();
-        List<Player> playerCombatList = combatManager.getPlayersInCombat();
-
-        for (Player player : playerCombatList) {
-            TagInformation tagInformation = combatManager.getTagInformation(player);
-            if (tagInformation != null && tagInformation.isExpired()) {
-                combatManager.untag(player, UntagReason.EXPIRE);
-            }
-        }
+        CombatManager combatManager = getCombatManager();
+        combatManager.untagExpired();
     }
 
     private @NotNull ICombatLogX getCombatLogX() {
         return this.plugin;
     }
+
+    private @NotNull CombatManager getCombatManager() {
+        return this.combatManager;
+    }
 }